@@ -0,0 +1,46 @@
+package com.audition.benchmark;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Upstream payloads shaped like the jsonplaceholder data set: 100 posts and 5 comments per post.
+ */
+public final class BenchmarkPayloads {
+
+    public static final int POST_COUNT = 100;
+    public static final int COMMENTS_PER_POST = 5;
+
+    private static final String LOREM = "quia et suscipit suscipit recusandae consequuntur expedita et cum "
+        + "reprehenderit molestiae ut ut quas totam nostrum rerum est autem sunt rem eveniet architecto";
+
+    private BenchmarkPayloads() {
+    }
+
+    public static List<AuditionPost> posts() {
+        return IntStream.rangeClosed(1, POST_COUNT)
+            .mapToObj(id -> AuditionPost.builder().userId((id - 1) / 10 + 1).id(id)
+                .title("sunt aut facere repellat provident occaecati excepturi optio " + id).body(LOREM).build())
+            .toList();
+    }
+
+    public static List<AuditionPostComment> comments() {
+        return IntStream.rangeClosed(1, POST_COUNT * COMMENTS_PER_POST)
+            .mapToObj(id -> AuditionPostComment.builder().postId((id - 1) / COMMENTS_PER_POST + 1).id(id)
+                .name("id labore ex et quam laborum " + id).email("Eliseo" + id + "@gardner.biz").body(LOREM).build())
+            .toList();
+    }
+
+    public static byte[] json(final ObjectMapper objectMapper, final Object value) {
+        try {
+            return objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
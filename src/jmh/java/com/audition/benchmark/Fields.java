@@ -0,0 +1,23 @@
+package com.audition.benchmark;
+
+import java.lang.reflect.Field;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Sets {@code @Autowired} fields when benchmark fixtures are wired by hand instead of by a Spring context.
+ */
+public final class Fields {
+
+    private Fields() {
+    }
+
+    public static <T> T inject(final T target, final String name, final Object value) {
+        final Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            throw new IllegalArgumentException(target.getClass().getName() + " has no field " + name);
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+        return target;
+    }
+}
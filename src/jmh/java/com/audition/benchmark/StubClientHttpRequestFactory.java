@@ -0,0 +1,149 @@
+package com.audition.benchmark;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Answers upstream requests in process with pre-serialized payloads, so benchmarks measure the application code
+ * rather than the network.
+ */
+public class StubClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private static final Pattern POST_BY_ID = Pattern.compile("/posts/(\\d+)");
+    private static final Pattern COMMENTS_FOR_POST = Pattern.compile("/posts/(\\d+)/comments");
+
+    private final byte[] allPosts;
+    private final byte[] allComments;
+    private final Map<Integer, byte[]> postById = new ConcurrentHashMap<>();
+    private final Map<Integer, byte[]> commentsByPost = new ConcurrentHashMap<>();
+
+    public StubClientHttpRequestFactory(final ObjectMapper objectMapper) {
+        final List<AuditionPost> posts = BenchmarkPayloads.posts();
+        final List<AuditionPostComment> comments = BenchmarkPayloads.comments();
+        this.allPosts = BenchmarkPayloads.json(objectMapper, posts);
+        this.allComments = BenchmarkPayloads.json(objectMapper, comments);
+        posts.forEach(post -> postById.put(post.getId(), BenchmarkPayloads.json(objectMapper, post)));
+        comments.stream().collect(Collectors.groupingBy(AuditionPostComment::getPostId))
+            .forEach((postId, list) -> commentsByPost.put(postId, BenchmarkPayloads.json(objectMapper, list)));
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(final URI uri, final HttpMethod httpMethod) {
+        return new StubRequest(uri, httpMethod, route(uri));
+    }
+
+    private byte[] route(final URI uri) {
+        final String path = uri.getPath();
+        final Matcher comments = COMMENTS_FOR_POST.matcher(path);
+        if (comments.matches()) {
+            return commentsByPost.get(Integer.parseInt(comments.group(1)));
+        }
+        final Matcher post = POST_BY_ID.matcher(path);
+        if (post.matches()) {
+            return postById.get(Integer.parseInt(post.group(1)));
+        }
+        if (path.endsWith("/comments")) {
+            return allComments;
+        }
+        return path.endsWith("/posts") ? allPosts : null;
+    }
+
+    private static final class StubRequest implements ClientHttpRequest {
+
+        private final URI uri;
+        private final HttpMethod method;
+        private final byte[] payload;
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        StubRequest(final URI uri, final HttpMethod method, final byte[] payload) {
+            this.uri = uri;
+            this.method = method;
+            this.payload = payload;
+        }
+
+        @Override
+        public ClientHttpResponse execute() {
+            return new StubResponse(payload);
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public URI getURI() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+    }
+
+    private static final class StubResponse implements ClientHttpResponse {
+
+        private final byte[] payload;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        StubResponse(final byte[] payload) {
+            this.payload = payload;
+            if (payload != null) {
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                headers.setContentLength(payload.length);
+            }
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return payload != null ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        }
+
+        @Override
+        public String getStatusText() {
+            return payload != null ? "OK" : "Not Found";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(payload != null ? payload : new byte[0]);
+        }
+
+        @Override
+        public void close() {
+            // nothing to release, the payload is held in memory
+        }
+    }
+}
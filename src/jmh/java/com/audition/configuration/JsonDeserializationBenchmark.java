@@ -0,0 +1,87 @@
+package com.audition.configuration;
+
+import com.audition.benchmark.BenchmarkPayloads;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson binding of upstream payloads through the ObjectMapper built by {@link WebServiceConfiguration}, with and
+ * without Blackbird and the hand-written model codecs, and through a per-call {@code readValue} versus a reader built
+ * once for the type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonDeserializationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    @Param({"false", "true"})
+    public boolean codecs;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader postsReader;
+    private ObjectReader commentsReader;
+    private byte[] posts;
+    private byte[] comments;
+    private byte[] post;
+    private List<AuditionPost> postList;
+
+    @Setup
+    public void setUp() {
+        final JsonMappingProperties properties = new JsonMappingProperties();
+        properties.setBlackbird(blackbird);
+        properties.setCodecs(codecs);
+        objectMapper = new WebServiceConfiguration().objectMapper(properties);
+        postsReader = objectMapper.readerFor(AuditionPost[].class);
+        commentsReader = objectMapper.readerFor(AuditionPostComment[].class);
+        postList = BenchmarkPayloads.posts();
+        posts = BenchmarkPayloads.json(objectMapper, postList);
+        comments = BenchmarkPayloads.json(objectMapper, BenchmarkPayloads.comments());
+        post = BenchmarkPayloads.json(objectMapper, postList.get(0));
+    }
+
+    @Benchmark
+    public AuditionPost[] readPosts() throws IOException {
+        return objectMapper.readValue(posts, AuditionPost[].class);
+    }
+
+    @Benchmark
+    public AuditionPostComment[] readComments() throws IOException {
+        return objectMapper.readValue(comments, AuditionPostComment[].class);
+    }
+
+    @Benchmark
+    public AuditionPost[] readPostsWithReader() throws IOException {
+        return postsReader.readValue(posts);
+    }
+
+    @Benchmark
+    public AuditionPostComment[] readCommentsWithReader() throws IOException {
+        return commentsReader.readValue(comments);
+    }
+
+    @Benchmark
+    public AuditionPost readPost() throws IOException {
+        return objectMapper.readValue(post, AuditionPost.class);
+    }
+
+    @Benchmark
+    public byte[] writePosts() throws IOException {
+        return objectMapper.writeValueAsBytes(postList);
+    }
+}
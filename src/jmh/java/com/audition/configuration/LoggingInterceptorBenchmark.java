@@ -0,0 +1,83 @@
+package com.audition.configuration;
+
+import com.audition.benchmark.StubClientHttpRequestFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Overhead of {@link LoggingInterceptor#intercept} around an in-process upstream call. {@link #baseline()} runs the
+ * same execution without the interceptor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoggingInterceptorBenchmark {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    @Param({"0.0", "0.1", "1.0"})
+    public double sampleRate;
+
+    @Param({"false", "true"})
+    public boolean logBodies;
+
+    private LoggingInterceptor interceptor;
+    private HttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @Setup
+    public void setUp() {
+        final UpstreamLoggingProperties properties = new UpstreamLoggingProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setLogBodies(logBodies);
+        interceptor = new LoggingInterceptor(properties);
+
+        final StubClientHttpRequestFactory factory = new StubClientHttpRequestFactory(
+            new WebServiceConfiguration().objectMapper(new JsonMappingProperties()));
+        final URI uri = URI.create("https://jsonplaceholder.typicode.com/posts/1");
+        final HttpHeaders headers = new HttpHeaders();
+        request = new HttpRequest() {
+            @Override
+            public HttpMethod getMethod() {
+                return HttpMethod.GET;
+            }
+
+            @Override
+            public URI getURI() {
+                return uri;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+        execution = (httpRequest, body) -> factory.createRequest(httpRequest.getURI(), httpRequest.getMethod())
+            .execute();
+    }
+
+    @Benchmark
+    public ClientHttpResponse baseline() throws IOException {
+        return execution.execute(request, EMPTY);
+    }
+
+    @Benchmark
+    public ClientHttpResponse intercept() throws IOException {
+        return interceptor.intercept(request, EMPTY, execution);
+    }
+}
@@ -0,0 +1,81 @@
+package com.audition.service.replica;
+
+import com.audition.benchmark.BenchmarkPayloads;
+import com.audition.model.AuditionPostComment;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Heap footprint and read cost of the comment set held as objects versus in a {@link CompactCommentStore}. The setup
+ * prints the retained size of each form, measured with JOL over the whole object graph. The two {@code build}
+ * benchmarks copy the full set into each form, text included, and the {@code read} benchmarks return the comments of
+ * one post.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommentStoreBenchmark {
+
+    private List<AuditionPostComment> comments;
+    private ReplicaSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        comments = BenchmarkPayloads.comments();
+        snapshot = new ReplicaSnapshot(BenchmarkPayloads.posts(), comments, Instant.now());
+        System.out.printf("retained bytes: objects %d, compact %d%n",
+            GraphLayout.parseInstance(buildObjects()).totalSize(),
+            GraphLayout.parseInstance(buildCompact()).totalSize());
+    }
+
+    @Benchmark
+    public List<AuditionPostComment> buildObjects() {
+        final AuditionPostComment[] copies = new AuditionPostComment[comments.size()];
+        for (int i = 0; i < copies.length; i++) {
+            final AuditionPostComment comment = comments.get(i);
+            copies[i] = new AuditionPostComment(comment.getPostId(), comment.getId(), copy(comment.getName()),
+                copy(comment.getEmail()), copy(comment.getBody()));
+        }
+        return List.of(copies);
+    }
+
+    @Benchmark
+    public CompactCommentStore buildCompact() {
+        return CompactCommentStore.of(comments);
+    }
+
+    @Benchmark
+    public List<AuditionPostComment> readObjects() {
+        final int postId = ThreadLocalRandom.current().nextInt(1, BenchmarkPayloads.POST_COUNT + 1);
+        final List<AuditionPostComment> result = new ArrayList<>();
+        for (final AuditionPostComment comment : comments) {
+            if (comment.getPostId() == postId) {
+                result.add(comment);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<AuditionPostComment> readCompact() {
+        return snapshot.comments(ThreadLocalRandom.current().nextInt(1, BenchmarkPayloads.POST_COUNT + 1));
+    }
+
+    /**
+     * Copies the text as well: {@code new String(String)} shares the original's {@code byte[]}.
+     */
+    private static String copy(final String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,139 @@
+package com.audition.web;
+
+import com.audition.benchmark.Fields;
+import com.audition.benchmark.StubClientHttpRequestFactory;
+import com.audition.configuration.AggregationProperties;
+import com.audition.configuration.BatchLookupProperties;
+import com.audition.configuration.JsonMappingProperties;
+import com.audition.configuration.LoggingInterceptor;
+import com.audition.configuration.PaginationProperties;
+import com.audition.configuration.PassthroughProperties;
+import com.audition.configuration.ReplicaProperties;
+import com.audition.configuration.WebServiceConfiguration;
+import com.audition.integration.AuditionCommentIntegrationClient;
+import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.integration.JsonCodecs;
+import com.audition.model.AuditionPageRequest;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.audition.service.AuditionService;
+import com.audition.service.replica.LocalReplica;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * {@link AuditionController} to {@link AuditionService} to the integration clients, with upstream answered in process
+ * by {@link StubClientHttpRequestFactory}. The components are wired by hand, so the result caches are not in play and
+ * every call goes through the RestTemplate and Jackson, unless {@code replica} answers filter queries from the local
+ * replica.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestPathBenchmark {
+
+    @Param({"false", "true"})
+    public boolean replica;
+
+    private AuditionController controller;
+    private AuditionService service;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper objectMapper = new WebServiceConfiguration().objectMapper(new JsonMappingProperties());
+        final RestTemplate restTemplate = new RestTemplate(new StubClientHttpRequestFactory(objectMapper));
+        final MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
+        converter.setObjectMapper(objectMapper);
+        restTemplate.getMessageConverters().add(0, converter);
+        restTemplate.setInterceptors(List.of(new LoggingInterceptor()));
+
+        final AuditionPostIntegrationClient postClient = new AuditionPostIntegrationClient();
+        Fields.inject(postClient, "restTemplate", restTemplate);
+        Fields.inject(postClient, "streamingRestTemplate", restTemplate);
+        Fields.inject(postClient, "objectMapper", objectMapper);
+        Fields.inject(postClient, "jsonCodecs", new JsonCodecs(objectMapper));
+        final AuditionCommentIntegrationClient commentClient = new AuditionCommentIntegrationClient();
+        Fields.inject(commentClient, "restTemplate", restTemplate);
+        Fields.inject(commentClient, "streamingRestTemplate", restTemplate);
+        Fields.inject(commentClient, "objectMapper", objectMapper);
+        Fields.inject(commentClient, "jsonCodecs", new JsonCodecs(objectMapper));
+
+        final ReplicaProperties replicaProperties = new ReplicaProperties();
+        replicaProperties.setEnabled(replica);
+        final LocalReplica localReplica = new LocalReplica();
+        Fields.inject(localReplica, "auditionPostIntegrationClient", postClient);
+        Fields.inject(localReplica, "auditionCommentIntegrationClient", commentClient);
+        Fields.inject(localReplica, "replicaProperties", replicaProperties);
+        if (replica) {
+            localReplica.refresh();
+        }
+
+        service = new AuditionService();
+        Fields.inject(service, "auditionPostIntegrationClient", postClient);
+        Fields.inject(service, "auditionCommentIntegrationClient", commentClient);
+        Fields.inject(service, "upstreamExecutor", new SyncTaskExecutor());
+        Fields.inject(service, "aggregationProperties", new AggregationProperties());
+        Fields.inject(service, "batchLookupProperties", new BatchLookupProperties());
+        Fields.inject(service, "paginationProperties", new PaginationProperties());
+        Fields.inject(service, "objectMapper", objectMapper);
+        Fields.inject(service, "localReplica", localReplica);
+
+        controller = new AuditionController();
+        Fields.inject(controller, "auditionService", service);
+        Fields.inject(controller, "objectMapper", objectMapper);
+        final PassthroughProperties passthroughProperties = new PassthroughProperties();
+        passthroughProperties.setEnabled(true);
+        Fields.inject(controller, "passthroughProperties", passthroughProperties);
+    }
+
+    @Benchmark
+    public AuditionPost getPostById() {
+        return controller.getPosts(String.valueOf(ThreadLocalRandom.current().nextInt(1, 101)));
+    }
+
+    @Benchmark
+    public List<AuditionPostComment> getCommentsForPost() {
+        return controller.getCommentsForPost(ThreadLocalRandom.current().nextInt(1, 101));
+    }
+
+    @Benchmark
+    public List<?> getPosts() {
+        return controller.getPosts(null, null, null, null, null).getBody();
+    }
+
+    @Benchmark
+    public List<?> getCommentsByPostId() {
+        return controller.getComments(ThreadLocalRandom.current().nextInt(1, 101), null, null, null).getBody();
+    }
+
+    @Benchmark
+    public Object getPostsPassthrough() {
+        return controller.getAllPosts().getBody();
+    }
+
+    @Benchmark
+    public List<?> getPostsWithFields() {
+        return controller.getPosts(null, null, null, null, List.of("id", "title")).getBody();
+    }
+
+    @Benchmark
+    public List<Object> getPostsFirstPage() {
+        // paged responses build Link headers from the current servlet request, so the page is taken at the service
+        return service.getPosts(new ConcurrentHashMap<>(), AuditionPageRequest.builder().page(1).size(20).build())
+            .getItems();
+    }
+}
@@ -0,0 +1,69 @@
+package com.audition.web.advice;
+
+import com.audition.benchmark.Fields;
+import com.audition.common.exception.SystemException;
+import com.audition.common.logging.AuditionLogger;
+import com.audition.common.logging.ErrorLogLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Cost of turning exceptions into {@link ProblemDetail} responses, including the error logging done by the handlers.
+ * Each invocation creates a new exception, as a failing request would, so stack trace capture is part of the
+ * measurement; {@code systemExceptionNotFoundExpected} uses the stackless factory for the same error. Error logging is
+ * limited as configured by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExceptionControllerAdviceBenchmark {
+
+    private ExceptionControllerAdvice advice;
+
+    @Setup
+    public void setUp() {
+        advice = Fields.inject(new ExceptionControllerAdvice(), "logger", new AuditionLogger());
+        Fields.inject(advice, "errorLogLimiter", new ErrorLogLimiter(10, Duration.ofSeconds(1)));
+        Fields.inject(advice, "meterRegistry", new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public ProblemDetail systemExceptionNotFound() {
+        return advice.handleSystemException(
+            new SystemException("Cannot find a Post with given id 1", "Resource Not Found",
+                HttpStatus.NOT_FOUND.value()));
+    }
+
+    @Benchmark
+    public ProblemDetail systemExceptionNotFoundExpected() {
+        return advice.handleSystemException(
+            SystemException.expected("Cannot find a Post with given id 1", "Resource Not Found",
+                HttpStatus.NOT_FOUND.value()));
+    }
+
+    @Benchmark
+    public ProblemDetail systemExceptionUnmappedStatus() {
+        return advice.handleSystemException(new SystemException("Upstream failure", 999));
+    }
+
+    @Benchmark
+    public ProblemDetail unexpectedException() {
+        return advice.handleMainException(new IllegalStateException("Unexpected"));
+    }
+
+    @Benchmark
+    public ProblemDetail httpClientErrorException() {
+        return advice.handleHttpClientException(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+    }
+}
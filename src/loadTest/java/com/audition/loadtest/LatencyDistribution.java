@@ -0,0 +1,40 @@
+package com.audition.loadtest;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Upstream response delay in milliseconds, parsed from a spec such as {@code none}, {@code fixed:20},
+ * {@code uniform:10:50} or {@code lognormal:20:200} (median and p99).
+ */
+@FunctionalInterface
+interface LatencyDistribution {
+
+    /**
+     * z-score of the 99th percentile of the standard normal distribution.
+     */
+    double Z_99 = 2.326_347_874;
+
+    long nextMillis();
+
+    static LatencyDistribution parse(final String spec) {
+        final String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        switch (parts[0]) {
+            case "none":
+                return () -> 0;
+            case "fixed":
+                final long fixed = Long.parseLong(parts[1]);
+                return () -> fixed;
+            case "uniform":
+                final long min = Long.parseLong(parts[1]);
+                final long max = Long.parseLong(parts[2]);
+                return () -> ThreadLocalRandom.current().nextLong(min, max + 1);
+            case "lognormal":
+                final double mu = Math.log(Double.parseDouble(parts[1]));
+                final double sigma = (Math.log(Double.parseDouble(parts[2])) - mu) / Z_99;
+                return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+            default:
+                throw new IllegalArgumentException("Unknown latency distribution " + spec);
+        }
+    }
+}
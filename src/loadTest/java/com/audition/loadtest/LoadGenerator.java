@@ -0,0 +1,180 @@
+package com.audition.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Drives HTTP GET requests against the application and records their latency in microseconds.
+ *
+ * <p>In the closed loop, {@code concurrency} workers send requests back to back, so the offered load falls as the
+ * application slows down. In the open loop, requests are started at a fixed {@code rate} regardless of completions and
+ * latency is measured from the intended start time, so queueing delay is not hidden (no coordinated omission).</p>
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Settings settings;
+    private final HttpClient client;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    LoadGenerator(final Settings settings) {
+        this.settings = settings;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor)
+            .connectTimeout(settings.timeout()).build();
+    }
+
+    /**
+     * Runs the warm-up, discards its measurements and then measures for the configured duration.
+     *
+     * @return the measurements of the measured phase
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    Result run() throws InterruptedException {
+        try {
+            drive(settings.warmup());
+            recorder.getIntervalHistogram();
+            requests.reset();
+            errors.reset();
+
+            final long start = System.nanoTime();
+            drive(settings.duration());
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return new Result(recorder.getIntervalHistogram(), requests.sum(), errors.sum(), elapsed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void drive(final Duration duration) throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        if (settings.mode() == Mode.OPEN) {
+            openLoop(duration);
+        } else {
+            closedLoop(duration);
+        }
+    }
+
+    private void closedLoop(final Duration duration) throws InterruptedException {
+        final long deadline = System.nanoTime() + duration.toNanos();
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            final Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    final long start = System.nanoTime();
+                    try {
+                        record(start, client.send(nextRequest(), HttpResponse.BodyHandlers.discarding()), null);
+                    } catch (final IOException e) {
+                        record(start, null, e);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }, "load-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private void openLoop(final Duration duration) throws InterruptedException {
+        final long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        final long start = System.nanoTime();
+        final long deadline = start + duration.toNanos();
+        final AtomicInteger inFlight = new AtomicInteger();
+        for (long intended = start; intended < deadline; intended += periodNanos) {
+            long wait = intended - System.nanoTime();
+            while (wait > 0) {
+                LockSupport.parkNanos(wait);
+                wait = intended - System.nanoTime();
+            }
+            final long scheduled = intended;
+            inFlight.incrementAndGet();
+            client.sendAsync(nextRequest(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    record(scheduled, response, failure);
+                    inFlight.decrementAndGet();
+                });
+        }
+        final long drainDeadline = System.nanoTime() + settings.timeout().toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private void record(final long startNanos, final HttpResponse<?> response, final Throwable failure) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        recorder.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        requests.increment();
+        if (failure != null || response.statusCode() >= 400) {
+            errors.increment();
+        }
+    }
+
+    private HttpRequest nextRequest() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final String path = settings.paths().get(random.nextInt(settings.paths().size()))
+            .replace("{id}", String.valueOf(random.nextInt(1, settings.idRange() + 1)));
+        return HttpRequest.newBuilder(settings.target().resolve(path)).timeout(settings.timeout())
+            .header("Accept", "application/json").GET().build();
+    }
+
+    enum Mode {
+        CLOSED, OPEN
+    }
+
+    /**
+     * Load settings.
+     *
+     * @param target      base URI of the application
+     * @param paths       request paths, picked at random; {@code {id}} is replaced by a random id
+     * @param idRange     ids are drawn from 1 to this value
+     * @param mode        closed or open loop
+     * @param concurrency number of workers in the closed loop
+     * @param rate        requests per second in the open loop
+     * @param warmup      warm-up duration, not measured
+     * @param duration    measured duration
+     * @param timeout     per request timeout
+     */
+    record Settings(URI target, List<String> paths, int idRange, Mode mode, int concurrency, double rate,
+                    Duration warmup, Duration duration, Duration timeout) {
+
+    }
+
+    /**
+     * Measurements of one run.
+     *
+     * @param histogram latency histogram in microseconds
+     * @param requests  completed requests
+     * @param errors    failed requests and responses with status 400 or above
+     * @param elapsed   measured duration
+     */
+    record Result(Histogram histogram, long requests, long errors, Duration elapsed) {
+
+        double throughput() {
+            return requests / (elapsed.toNanos() / 1e9);
+        }
+    }
+}
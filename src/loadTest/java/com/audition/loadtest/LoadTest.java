@@ -0,0 +1,141 @@
+package com.audition.loadtest;
+
+import com.audition.AuditionApplication;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the upstream simulator and the application pointed at it, drives the application with {@link LoadGenerator}
+ * and prints latency percentiles, throughput and the peak platform thread count. Settings are read from
+ * {@code loadtest.*} system properties; every {@code loadtest.app.<property>} is passed to the application as
+ * {@code --<property>}, e.g. {@code loadtest.app.application.cache.enabled=false}. With {@code loadtest.target} set, that URL is driven instead
+ * and neither the simulator nor the application is started.
+ */
+public final class LoadTest {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+    private static final String DEFAULT_PATHS = "/posts/{id},/posts/{id}/comments,/posts/{id}?include=comments,"
+        + "/posts?page=1&size=20";
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int posts = intSetting("upstream.posts", 100);
+        final UpstreamSimulator.Settings upstream = new UpstreamSimulator.Settings(
+            intSetting("upstream.port", 0),
+            setting("upstream.latency", "lognormal:20:150"),
+            Double.parseDouble(setting("upstream.error-rate", "0")),
+            intSetting("upstream.error-status", 503),
+            posts,
+            intSetting("upstream.comments-per-post", 5),
+            intSetting("upstream.body-bytes", 200));
+
+        final String target = System.getProperty(PREFIX + "target");
+        UpstreamSimulator simulator = null;
+        ConfigurableApplicationContext application = null;
+        try {
+            final URI targetUri;
+            if (target == null) {
+                simulator = new UpstreamSimulator(upstream);
+                application = SpringApplication.run(AuditionApplication.class, applicationArgs(simulator));
+                final int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+                targetUri = URI.create("http://127.0.0.1:" + port);
+            } else {
+                targetUri = URI.create(target);
+            }
+
+            final LoadGenerator.Settings load = new LoadGenerator.Settings(
+                targetUri,
+                Arrays.stream(setting("paths", DEFAULT_PATHS).split(",")).map(String::trim).toList(),
+                intSetting("id-range", posts),
+                LoadGenerator.Mode.valueOf(setting("mode", "closed").toUpperCase(Locale.ROOT)),
+                intSetting("concurrency", 32),
+                Double.parseDouble(setting("rate", "500")),
+                Duration.parse("PT" + setting("warmup", "10s")),
+                Duration.parse("PT" + setting("duration", "30s")),
+                Duration.parse("PT" + setting("timeout", "10s")));
+
+            final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            final LoadGenerator.Result result = new LoadGenerator(load).run();
+            report(System.out, load, upstream, result);
+            System.out.printf(Locale.ROOT, "threads     peak %d platform threads in this JVM, %s%n",
+                threads.getPeakThreadCount(), load.mode() == LoadGenerator.Mode.CLOSED
+                    ? "including " + load.concurrency() + " load workers" : "including the load client pool");
+            writeHistogram(result.histogram());
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (simulator != null) {
+                simulator.close();
+            }
+        }
+    }
+
+    private static String[] applicationArgs(final UpstreamSimulator simulator) {
+        final List<String> args = new ArrayList<>();
+        args.add("--server.port=0");
+        args.add("--application.upstream.base-url=" + simulator.getBaseUrl());
+        args.add("--spring.cloud.config.enabled=false");
+        System.getProperties().stringPropertyNames().stream().filter(name -> name.startsWith(APP_PREFIX)).sorted()
+            .forEach(name -> args.add("--" + name.substring(APP_PREFIX.length()) + "=" + System.getProperty(name)));
+        return args.toArray(String[]::new);
+    }
+
+    private static void report(final PrintStream out, final LoadGenerator.Settings load,
+        final UpstreamSimulator.Settings upstream, final LoadGenerator.Result result) {
+        final Histogram histogram = result.histogram();
+        out.println();
+        out.printf(Locale.ROOT, "target      %s%n", load.target());
+        out.printf(Locale.ROOT, "load        %s, concurrency %d, rate %.0f/s, %s measured%n", load.mode(),
+            load.concurrency(), load.rate(), load.duration());
+        out.printf(Locale.ROOT, "upstream    latency %s, error rate %.3f, %d posts%n", upstream.latency(),
+            upstream.errorRate(), upstream.posts());
+        out.printf(Locale.ROOT, "requests    %d (%d errors)%n", result.requests(), result.errors());
+        out.printf(Locale.ROOT, "throughput  %.1f req/s%n", result.throughput());
+        for (final double percentile : new double[]{50, 90, 99, 99.9}) {
+            out.printf(Locale.ROOT, "p%-10s %.2f ms%n", trim(percentile),
+                histogram.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf(Locale.ROOT, "max         %.2f ms%n", histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void writeHistogram(final Histogram histogram) throws IOException {
+        final Path file = Path.of(setting("report", "build/reports/loadtest/latency.hgrm"));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+        System.out.println("histogram   " + file.toAbsolutePath());
+    }
+
+    private static String trim(final double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static String setting(final String name, final String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static int intSetting(final String name, final int defaultValue) {
+        return Integer.parseInt(setting(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,185 @@
+package com.audition.loadtest;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for jsonplaceholder.typicode.com serving {@code /posts}, {@code /posts/{id}},
+ * {@code /posts/{id}/comments} and {@code /comments}, with configurable latency, error rate and payload size.
+ */
+final class UpstreamSimulator implements AutoCloseable {
+
+    private static final Pattern POST_BY_ID = Pattern.compile("/posts/(\\d+)");
+    private static final Pattern COMMENTS_FOR_POST = Pattern.compile("/posts/(\\d+)/comments");
+    private static final Pattern POST_ID_QUERY = Pattern.compile("(?:^|&)postId=(\\d+)");
+    private static final Pattern USER_ID_QUERY = Pattern.compile("(?:^|&)userId=(\\d+)");
+    private static final byte[] ERROR_BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final byte[] allPosts;
+    private final byte[] allComments;
+    private final Map<Integer, byte[]> postById = new HashMap<>();
+    private final Map<Integer, byte[]> postsByUser = new HashMap<>();
+    private final Map<Integer, byte[]> commentsByPost = new HashMap<>();
+
+    UpstreamSimulator(final Settings settings) throws IOException {
+        this.latency = LatencyDistribution.parse(settings.latency());
+        this.errorRate = settings.errorRate();
+        this.errorStatus = settings.errorStatus();
+
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final String body = "x".repeat(settings.bodyBytes());
+        final List<AuditionPost> posts = new ArrayList<>();
+        final List<AuditionPostComment> comments = new ArrayList<>();
+        final Map<Integer, List<AuditionPost>> byUser = new HashMap<>();
+        for (int id = 1; id <= settings.posts(); id++) {
+            final AuditionPost post = new AuditionPost((id - 1) / 10 + 1, id, "post " + id, body);
+            posts.add(post);
+            postById.put(id, json(objectMapper, post));
+            byUser.computeIfAbsent(post.getUserId(), userId -> new ArrayList<>()).add(post);
+            final List<AuditionPostComment> forPost = new ArrayList<>();
+            for (int i = 1; i <= settings.commentsPerPost(); i++) {
+                final int commentId = (id - 1) * settings.commentsPerPost() + i;
+                forPost.add(new AuditionPostComment(id, commentId, "comment " + commentId,
+                    "user" + commentId + "@example.com", body));
+            }
+            comments.addAll(forPost);
+            commentsByPost.put(id, json(objectMapper, forPost));
+        }
+        byUser.forEach((userId, list) -> postsByUser.put(userId, json(objectMapper, list)));
+        this.allPosts = json(objectMapper, posts);
+        this.allComments = json(objectMapper, comments);
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", settings.port()), 1024);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            sleep(latency.nextMillis());
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, errorStatus, ERROR_BODY);
+                return;
+            }
+            final byte[] payload = route(exchange.getRequestURI());
+            if (payload == null) {
+                respond(exchange, 404, ERROR_BODY);
+            } else {
+                respond(exchange, 200, payload);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private byte[] route(final URI uri) {
+        final String path = uri.getPath();
+        final String query = uri.getRawQuery() == null ? "" : uri.getRawQuery();
+        final Matcher commentsForPost = COMMENTS_FOR_POST.matcher(path);
+        if (commentsForPost.matches()) {
+            return commentsByPost.get(Integer.valueOf(commentsForPost.group(1)));
+        }
+        final Matcher post = POST_BY_ID.matcher(path);
+        if (post.matches()) {
+            return postById.get(Integer.valueOf(post.group(1)));
+        }
+        if ("/comments".equals(path)) {
+            final Matcher postId = POST_ID_QUERY.matcher(query);
+            return postId.find() ? commentsByPost.getOrDefault(Integer.valueOf(postId.group(1)), emptyArray())
+                : allComments;
+        }
+        if ("/posts".equals(path)) {
+            final Matcher userId = USER_ID_QUERY.matcher(query);
+            return userId.find() ? postsByUser.getOrDefault(Integer.valueOf(userId.group(1)), emptyArray())
+                : allPosts;
+        }
+        return null;
+    }
+
+    private static byte[] emptyArray() {
+        return "[]".getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] payload)
+        throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, payload.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(payload);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] json(final ObjectMapper objectMapper, final Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Simulator settings.
+     *
+     * @param port            listen port, 0 for an ephemeral port
+     * @param latency         latency distribution spec, see {@link LatencyDistribution#parse(String)}
+     * @param errorRate       fraction of requests answered with {@code errorStatus}
+     * @param errorStatus     status used for injected errors
+     * @param posts           number of posts
+     * @param commentsPerPost number of comments per post
+     * @param bodyBytes       length of every post and comment body
+     */
+    record Settings(int port, String latency, double errorRate, int errorStatus, int posts, int commentsPerPost,
+                    int bodyBytes) {
+
+    }
+}
@@ -0,0 +1,33 @@
+package com.audition.common;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Order of the advice applied to the integration clients, from outermost to innermost. Cache lookups come first so
+ * that cache hits never reach the upstream timers.
+ */
+public final class AdviceOrder {
+
+    /**
+     * {@code @Cacheable} result caching.
+     */
+    public static final int CACHE = Ordered.LOWEST_PRECEDENCE - 300;
+
+    /**
+     * Negative caching of not-found results.
+     */
+    public static final int NOT_FOUND_CACHE = Ordered.LOWEST_PRECEDENCE - 200;
+
+    /**
+     * Circuit breaker, bulkhead and time limiter protection.
+     */
+    public static final int RESILIENCE = Ordered.LOWEST_PRECEDENCE - 100;
+
+    /**
+     * Upstream call timing, closest to the actual call.
+     */
+    public static final int UPSTREAM_TIMING = Ordered.LOWEST_PRECEDENCE;
+
+    private AdviceOrder() {
+    }
+}
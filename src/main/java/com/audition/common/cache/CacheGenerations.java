@@ -0,0 +1,42 @@
+package com.audition.common.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Change counters of the upstream data caches. A cache's generation is increased whenever one of its entries is
+ * replaced or explicitly evicted, so anything derived from the cache can record the generations it was built from and
+ * detect that it is outdated.
+ */
+@Component
+public class CacheGenerations {
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Records a change of the cache.
+     *
+     * @param cacheName name of the changed cache
+     */
+    public void increment(final String cacheName) {
+        generations.computeIfAbsent(cacheName, name -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Returns a value that changes whenever any of the caches changes.
+     *
+     * @param cacheNames names of the caches
+     * @return the sum of their generations
+     */
+    public long sum(final Collection<String> cacheNames) {
+        long sum = 0;
+        for (final String cacheName : cacheNames) {
+            final AtomicLong generation = generations.get(cacheName);
+            sum += generation != null ? generation.get() : 0;
+        }
+        return sum;
+    }
+}
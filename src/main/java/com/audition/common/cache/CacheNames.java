@@ -0,0 +1,18 @@
+package com.audition.common.cache;
+
+/**
+ * Names of the caches holding upstream data.
+ */
+public final class CacheNames {
+
+    public static final String POSTS = "posts";
+    public static final String POST = "post";
+    public static final String COMMENTS = "comments";
+    public static final String POST_COMMENTS = "postComments";
+    public static final String POSTS_JSON = "postsJson";
+    public static final String COMMENTS_JSON = "commentsJson";
+    public static final String NOT_FOUND = "notFound";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,126 @@
+package com.audition.common.cache;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.PassthroughProperties;
+import com.audition.configuration.WarmUpProperties;
+import com.audition.integration.AuditionCommentIntegrationClient;
+import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads {@code /posts} and {@code /comments} through the integration clients at startup, so the first requests after a
+ * deploy are served from the caches instead of all missing. With the passthrough enabled the raw upstream arrays
+ * served to unfiltered list requests are loaded as well. Application runners complete before Spring Boot publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC}, so the readiness probe ({@code /actuator/health/readiness}) only reports UP
+ * once the warm-up has finished or timed out. A failed or timed out load is logged and the instance starts partially
+ * warm rather than not at all.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.warm-up", name = "enabled", havingValue = "true")
+@NoArgsConstructor
+public class CacheWarmUp implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheWarmUp.class);
+    private final AuditionLogger logger = new AuditionLogger();
+
+    @Autowired
+    private AuditionPostIntegrationClient auditionPostIntegrationClient;
+
+    @Autowired
+    private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private WarmUpProperties warmUpProperties;
+
+    @Autowired
+    private PassthroughProperties passthroughProperties;
+
+    /**
+     * Runs the loads with bounded parallelism and waits for them at most {@code application.warm-up.timeout}.
+     *
+     * @param args application arguments, unused
+     * @throws InterruptedException if startup is interrupted while waiting
+     */
+    @Override
+    public void run(final ApplicationArguments args) throws InterruptedException {
+        final long start = System.nanoTime();
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("warm-up-");
+        threadFactory.setDaemon(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.max(1, warmUpProperties.getParallelism()), threadFactory);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>(List.of(this::loadPosts, this::loadComments));
+            if (passthroughProperties.isEnabled()) {
+                tasks.add(() -> auditionPostIntegrationClient.getPostsJson().getSize());
+                tasks.add(() -> auditionCommentIntegrationClient.getCommentsJson().getSize());
+            }
+            final List<Future<Integer>> loads = executor.invokeAll(tasks, warmUpProperties.getTimeout().toMillis(),
+                TimeUnit.MILLISECONDS);
+            int loaded = 0;
+            for (final Future<Integer> load : loads) {
+                loaded += loaded(load);
+            }
+            logger.info(LOG, "Cache warm-up loaded {} entries in {} ms", loaded,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int loaded(final Future<Integer> load) throws InterruptedException {
+        try {
+            return load.get();
+        } catch (final CancellationException e) {
+            logger.warn(LOG, "Cache warm-up load timed out after " + warmUpProperties.getTimeout());
+        } catch (final ExecutionException e) {
+            logger.warn(LOG, "Cache warm-up load failed: " + e.getCause().getMessage());
+        }
+        return 0;
+    }
+
+    private int loadPosts() {
+        final List<AuditionPost> posts = auditionPostIntegrationClient.getPosts(Map.of());
+        final Cache postCache = cacheManager.getCache(CacheNames.POST);
+        if (warmUpProperties.isSeedEntityCaches() && postCache != null) {
+            posts.forEach(post -> postCache.putIfAbsent(String.valueOf(post.getId()), post));
+        }
+        return posts.size();
+    }
+
+    private int loadComments() {
+        final List<AuditionPostComment> comments = auditionCommentIntegrationClient.getComments(Map.of());
+        final Cache postCommentsCache = cacheManager.getCache(CacheNames.POST_COMMENTS);
+        if (warmUpProperties.isSeedEntityCaches() && postCommentsCache != null) {
+            comments.stream()
+                .collect(Collectors.groupingBy(AuditionPostComment::getPostId, Collectors.toUnmodifiableList()))
+                .forEach(postCommentsCache::putIfAbsent);
+        }
+        return comments.size();
+    }
+}
@@ -0,0 +1,58 @@
+package com.audition.common.cache;
+
+import com.audition.common.AdviceOrder;
+import com.audition.common.exception.SystemException;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Negative cache for cacheable integration calls. A {@link SystemException} with status 404 is remembered in the
+ * {@link CacheNames#NOT_FOUND} cache and rethrown for identical calls until the entry expires, so unknown ids do not hit
+ * the upstream API on every request.
+ */
+@Aspect
+@Component
+@Order(AdviceOrder.NOT_FOUND_CACHE)
+@NoArgsConstructor
+public class NotFoundCacheAspect {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Serves cached not-found results and records new ones.
+     *
+     * @param joinPoint the cacheable integration call
+     * @return the result of the call
+     * @throws Throwable the cached or freshly thrown exception
+     */
+    @Around("@annotation(org.springframework.cache.annotation.Cacheable) && within(com.audition.integration..*)")
+    public Object cacheNotFound(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Cache cache = cacheManager.getCache(CacheNames.NOT_FOUND);
+        if (cache == null) {
+            return joinPoint.proceed();
+        }
+        final SimpleKey key = new SimpleKey(joinPoint.getSignature().toShortString(), joinPoint.getArgs());
+        final SystemException notFound = cache.get(key, SystemException.class);
+        if (notFound != null) {
+            throw notFound;
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (final SystemException e) {
+            if (Integer.valueOf(HttpStatus.NOT_FOUND.value()).equals(e.getStatusCode())) {
+                cache.put(key, e);
+            }
+            throw e;
+        }
+    }
+}
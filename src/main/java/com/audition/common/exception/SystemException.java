@@ -60,4 +60,52 @@ public class SystemException extends RuntimeException {
         this.title = title;
         this.detail = detail;
     }
+
+    private SystemException(final String detail, final String title, final Integer errorCode,
+        final Throwable exception, final boolean writableStackTrace) {
+        super(detail, exception, true, writableStackTrace);
+        this.statusCode = errorCode;
+        this.title = title;
+        this.detail = detail;
+    }
+
+    /**
+     * Creates an exception for an expected outcome such as a 400 or 404. It does not capture a stack trace, which
+     * would only show where the request was rejected, so throwing it is about as cheap as returning.
+     *
+     * @param detail    the problem detail
+     * @param errorCode the response status
+     * @return the exception
+     */
+    public static SystemException expected(final String detail, final Integer errorCode) {
+        return new SystemException(detail, DEFAULT_TITLE, errorCode, null, false);
+    }
+
+    /**
+     * Creates an exception for an expected outcome, without a stack trace.
+     *
+     * @param detail    the problem detail
+     * @param title     the problem title
+     * @param errorCode the response status
+     * @return the exception
+     * @see #expected(String, Integer)
+     */
+    public static SystemException expected(final String detail, final String title, final Integer errorCode) {
+        return new SystemException(detail, title, errorCode, null, false);
+    }
+
+    /**
+     * Creates an exception for an expected outcome, without a stack trace of its own. The cause keeps its trace.
+     *
+     * @param detail    the problem detail
+     * @param title     the problem title
+     * @param errorCode the response status
+     * @param exception the cause
+     * @return the exception
+     * @see #expected(String, Integer)
+     */
+    public static SystemException expected(final String detail, final String title, final Integer errorCode,
+        final Throwable exception) {
+        return new SystemException(detail, title, errorCode, exception, false);
+    }
 }
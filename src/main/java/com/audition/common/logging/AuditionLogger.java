@@ -19,12 +19,24 @@ public class AuditionLogger {
         }
     }
 
+    public void info(final Logger logger, final String message, final Object... arguments) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arguments);
+        }
+    }
+
     public void debug(final Logger logger, final String message) {
         if (logger.isDebugEnabled()) {
             logger.debug(message);
         }
     }
 
+    public void debug(final Logger logger, final String message, final Object object) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, object);
+        }
+    }
+
     public void warn(final Logger logger, final String message) {
         if (logger.isWarnEnabled()) {
             logger.warn(message);
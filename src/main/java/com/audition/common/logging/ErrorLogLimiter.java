@@ -0,0 +1,67 @@
+package com.audition.common.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits how many errors are logged per response status in a fixed time window, so that a burst of failing requests
+ * does not turn into a burst of log lines. Suppressed errors are reported with the next error that is logged.
+ */
+public class ErrorLogLimiter {
+
+    private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+    private final int maxPerWindow;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxPerWindow errors logged per status and window
+     * @param window       length of the window
+     */
+    public ErrorLogLimiter(final int maxPerWindow, final Duration window) {
+        this(maxPerWindow, window, System::nanoTime);
+    }
+
+    ErrorLogLimiter(final int maxPerWindow, final Duration window, final LongSupplier nanoClock) {
+        this.maxPerWindow = maxPerWindow;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Decides whether an error with the given status is logged.
+     *
+     * @param status the response status
+     * @return -1 if the error must not be logged, otherwise the number of errors of this status suppressed since the
+     *     previous one that was logged
+     */
+    public long tryAcquire(final int status) {
+        return windows.computeIfAbsent(status, key -> new Window()).tryAcquire(nanoClock.getAsLong());
+    }
+
+    private final class Window {
+
+        private long start = Long.MIN_VALUE;
+        private int logged;
+        private long suppressed;
+
+        synchronized long tryAcquire(final long now) {
+            if (start == Long.MIN_VALUE || now - start >= windowNanos) {
+                start = now;
+                logged = 0;
+            }
+            if (logged >= maxPerWindow) {
+                suppressed++;
+                return -1;
+            }
+            logged++;
+            final long reported = suppressed;
+            suppressed = 0;
+            return reported;
+        }
+    }
+}
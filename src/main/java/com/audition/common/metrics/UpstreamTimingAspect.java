@@ -0,0 +1,149 @@
+package com.audition.common.metrics;
+
+import com.audition.common.AdviceOrder;
+import com.audition.common.exception.SystemException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times every public integration client method as {@code audition.upstream.requests}, tagged by client, method,
+ * outcome, status and exception. The timer includes reading and mapping the response body, so comparing it with the
+ * {@code audition.upstream.exchange} timer separates upstream latency from JSON mapping. Reactive results are timed
+ * from subscription until they complete, fail or are cancelled. The status is the upstream status whenever a response
+ * was received, {@code IO_ERROR} when none was, {@code CANCELLED} for a cancelled reactive call and {@code UNKNOWN} for
+ * any other failure.
+ */
+@Aspect
+@Component
+@Order(AdviceOrder.UPSTREAM_TIMING)
+@NoArgsConstructor
+public class UpstreamTimingAspect {
+
+    public static final String METRIC_NAME = "audition.upstream.requests";
+    private static final String NONE = "none";
+    private static final String IO_ERROR = "IO_ERROR";
+    private static final String CANCELLED = "CANCELLED";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Records the duration and result of an integration call.
+     *
+     * @param joinPoint the integration call
+     * @return the result of the call
+     * @throws Throwable the exception thrown by the call
+     */
+    @Around("within(com.audition.integration..*) && @within(org.springframework.stereotype.Component) "
+        + "&& execution(public * *(..))")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final String client = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        final String method = joinPoint.getSignature().getName();
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (final Throwable e) {
+            stop(sample, client, method, e);
+            throw e;
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                final Timer.Sample subscribed = Timer.start(meterRegistry);
+                final AtomicBoolean stopped = new AtomicBoolean();
+                return mono.doOnSuccess(value -> stopOnce(stopped, subscribed, client, method, null))
+                    .doOnError(e -> stopOnce(stopped, subscribed, client, method, e))
+                    .doOnCancel(() -> cancel(stopped, subscribed, client, method));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                final Timer.Sample subscribed = Timer.start(meterRegistry);
+                final AtomicBoolean stopped = new AtomicBoolean();
+                return flux.doOnComplete(() -> stopOnce(stopped, subscribed, client, method, null))
+                    .doOnError(e -> stopOnce(stopped, subscribed, client, method, e))
+                    .doOnCancel(() -> cancel(stopped, subscribed, client, method));
+            });
+        }
+        stop(sample, client, method, null);
+        return result;
+    }
+
+    private void stopOnce(final AtomicBoolean stopped, final Timer.Sample sample, final String client,
+        final String method, final Throwable failure) {
+        if (stopped.compareAndSet(false, true)) {
+            stop(sample, client, method, failure);
+        }
+    }
+
+    private void cancel(final AtomicBoolean stopped, final Timer.Sample sample, final String client,
+        final String method) {
+        if (stopped.compareAndSet(false, true)) {
+            record(sample, client, method, Outcome.UNKNOWN.name(), CANCELLED, NONE);
+        }
+    }
+
+    private void stop(final Timer.Sample sample, final String client, final String method, final Throwable failure) {
+        final int status = status(failure);
+        final String exception = failure == null ? NONE : failure.getClass().getSimpleName();
+        if (status > 0) {
+            record(sample, client, method, Outcome.forStatus(status).name(), String.valueOf(status), exception);
+        } else {
+            record(sample, client, method, Outcome.UNKNOWN.name(), isIoError(failure) ? IO_ERROR : "UNKNOWN",
+                exception);
+        }
+    }
+
+    private void record(final Timer.Sample sample, final String client, final String method, final String outcome,
+        final String status, final String exception) {
+        sample.stop(Timer.builder(METRIC_NAME)
+            .description("Integration client calls to the upstream API, including response mapping")
+            .tag("client", client)
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .tag("status", status)
+            .tag("exception", exception)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry));
+    }
+
+    private static int status(final Throwable failure) {
+        if (failure == null) {
+            return 200;
+        }
+        if (failure instanceof SystemException systemException && systemException.getStatusCode() != null) {
+            return systemException.getStatusCode();
+        }
+        if (failure instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().value();
+        }
+        if (failure instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().value();
+        }
+        return 0;
+    }
+
+    private static boolean isIoError(final Throwable failure) {
+        return failure instanceof ResourceAccessException || failure instanceof WebClientRequestException
+            || failure instanceof IOException;
+    }
+}
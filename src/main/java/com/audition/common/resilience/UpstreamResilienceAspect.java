@@ -0,0 +1,298 @@
+package com.audition.common.resilience;
+
+import com.audition.common.AdviceOrder;
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ResilienceProperties;
+import com.audition.configuration.VirtualThreadConfiguration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedTimeLimiterMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Protects every public integration client method with its own circuit breaker, semaphore bulkhead and time limiter.
+ * Only upstream failures (5xx, I/O errors, timeouts) count towards opening a circuit; 4xx results do not. Open
+ * circuits, full bulkheads and an exhausted call pool fail fast with a 503 and timeouts with a 504, unless the last
+ * successful result for the same call is available and {@code serve-stale} is enabled. Streaming methods are not time
+ * limited, since they write the response while they read: their circuit breakers ignore failures that do not come
+ * from upstream, such as a client that disconnects mid-stream, and do not track slow calls, since a slow reader makes
+ * a slow call.
+ *
+ * <p>A time limited blocking call runs on a separate thread while the caller waits for it: on the virtual-thread
+ * executor in the virtual-thread mode ({@code application.threads.virtual}), so upstream I/O stays on virtual threads,
+ * and on a bounded platform pool of {@code pool-size} threads otherwise.
+ */
+@Aspect
+@Component
+@Order(AdviceOrder.RESILIENCE)
+@NoArgsConstructor
+public class UpstreamResilienceAspect {
+
+    private static final String STREAM_PREFIX = "stream";
+    private static final String STREAMING_CONFIG = "streaming";
+    private static final String UNAVAILABLE = "Service Unavailable";
+
+    @Autowired
+    private ResilienceProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    @Qualifier(VirtualThreadConfiguration.VIRTUAL_THREAD_EXECUTOR)
+    private ExecutorService virtualThreadExecutor;
+
+    private CircuitBreakerRegistry circuitBreakers;
+    private BulkheadRegistry bulkheads;
+    private TimeLimiterRegistry timeLimiters;
+    private ThreadPoolExecutor callPool;
+    private ExecutorService callExecutor;
+    private Cache<List<Object>, Object> lastGood;
+
+    /**
+     * Builds the registries from the settings and publishes their state to Micrometer.
+     */
+    @PostConstruct
+    public void init() {
+        final CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+            .failureRateThreshold(properties.getFailureRateThreshold())
+            .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+            .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+            .slidingWindowSize(properties.getSlidingWindowSize())
+            .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+            .recordException(UpstreamResilienceAspect::isUpstreamFailure)
+            .build();
+        circuitBreakers = CircuitBreakerRegistry.of(circuitBreakerConfig);
+        circuitBreakers.addConfiguration(STREAMING_CONFIG, CircuitBreakerConfig.from(circuitBreakerConfig)
+            .slowCallDurationThreshold(Duration.ofNanos(Long.MAX_VALUE))
+            .ignoreException(failure -> !isUpstreamFailure(failure))
+            .build());
+        bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+            .maxWaitDuration(properties.getMaxWaitDuration())
+            .build());
+        timeLimiters = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+            .timeoutDuration(properties.getTimeout())
+            .cancelRunningFuture(true)
+            .build());
+        if (virtualThreadExecutor != null) {
+            callExecutor = virtualThreadExecutor;
+        } else {
+            final AtomicInteger threads = new AtomicInteger();
+            callPool = new ThreadPoolExecutor(0, properties.getPoolSize(), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "upstream-call-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            callExecutor = callPool;
+        }
+        lastGood = Caffeine.newBuilder()
+            .maximumSize(properties.getStaleMaximumSize())
+            .expireAfterWrite(properties.getStaleTtl())
+            .build();
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+        TaggedTimeLimiterMetrics.ofTimeLimiterRegistry(timeLimiters).bindTo(meterRegistry);
+    }
+
+    /**
+     * Stops the platform call pool; the virtual-thread executor is closed with its bean.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (callPool != null) {
+            callPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs an integration call through the circuit breaker, bulkhead and time limiter of its operation.
+     *
+     * @param joinPoint the integration call
+     * @return the result of the call, or the last successful result when serving stale data
+     * @throws Throwable the exception of the call, or a {@link SystemException} for rejected and timed out calls
+     */
+    @Around("within(com.audition.integration..*) && @within(org.springframework.stereotype.Component) "
+        + "&& execution(public * *(..))")
+    public Object protect(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        final String operation = joinPoint.getSignature().getName();
+        final Bulkhead bulkhead = bulkheads.bulkhead(operation);
+        final List<Object> key = key(operation, joinPoint.getArgs());
+
+        if (operation.startsWith(STREAM_PREFIX)) {
+            final CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(operation, STREAMING_CONFIG);
+            return guard(() -> circuitBreaker.executeCallable(
+                Bulkhead.decorateCallable(bulkhead, () -> proceed(joinPoint))), key, false);
+        }
+
+        final CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(operation);
+
+        final Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+        if (Mono.class.isAssignableFrom(returnType)) {
+            return protectMono((Mono<?>) joinPoint.proceed(), operation, circuitBreaker, bulkhead, key);
+        }
+        if (Flux.class.isAssignableFrom(returnType)) {
+            return ((Flux<?>) joinPoint.proceed()).cast(Object.class)
+                .transformDeferred(TimeLimiterOperator.of(timeLimiters.timeLimiter(operation)))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(UpstreamResilienceAspect::isRejection, UpstreamResilienceAspect::translate);
+        }
+
+        final TimeLimiter timeLimiter = timeLimiters.timeLimiter(operation);
+        final Callable<Object> call = ContextSnapshot.captureAll().wrap(() -> proceed(joinPoint));
+        return guard(() -> circuitBreaker.executeCallable(Bulkhead.decorateCallable(bulkhead,
+            () -> timeLimiter.executeFutureSupplier(() -> callExecutor.submit(call)))), key, true);
+    }
+
+    private Object guard(final Callable<Object> call, final List<Object> key, final boolean useStale)
+        throws Throwable {
+        try {
+            final Object result = call.call();
+            if (useStale && result != null && properties.isServeStale()) {
+                lastGood.put(key, result);
+            }
+            return result;
+        } catch (final Exception e) {
+            final Throwable failure = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            if (useStale && properties.isServeStale() && (isRejection(failure) || isUpstreamFailure(failure))) {
+                final Object stale = lastGood.getIfPresent(key);
+                if (stale != null) {
+                    return stale;
+                }
+            }
+            throw isRejection(failure) ? translate(failure) : failure;
+        }
+    }
+
+    private Mono<?> protectMono(final Mono<?> mono, final String operation, final CircuitBreaker circuitBreaker,
+        final Bulkhead bulkhead, final List<Object> key) {
+        // the time limiter is applied first so that it runs inside the circuit breaker, which then records a timeout
+        // as a failed call, as on the blocking path
+        final Mono<Object> protectedMono = mono.cast(Object.class)
+            .transformDeferred(TimeLimiterOperator.of(timeLimiters.timeLimiter(operation)))
+            .transformDeferred(BulkheadOperator.of(bulkhead))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .doOnNext(result -> {
+                if (properties.isServeStale()) {
+                    lastGood.put(key, result);
+                }
+            });
+        return protectedMono.onErrorResume(failure -> {
+            final Object stale = properties.isServeStale() && (isRejection(failure) || isUpstreamFailure(failure))
+                ? lastGood.getIfPresent(key) : null;
+            if (stale != null) {
+                return Mono.just(stale);
+            }
+            return Mono.error(isRejection(failure) ? translate(failure) : failure);
+        });
+    }
+
+    private static Object proceed(final ProceedingJoinPoint joinPoint) throws Exception {
+        try {
+            return joinPoint.proceed();
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Object> key(final String operation, final Object[] args) {
+        final Object[] key = Arrays.copyOf(new Object[]{operation}, args.length + 1);
+        System.arraycopy(args, 0, key, 1, args.length);
+        return Arrays.asList(key);
+    }
+
+    /**
+     * Whether a failure says something about the health of the upstream API: 5xx results, I/O errors on the upstream
+     * connection and timeouts do. 4xx results, calls rejected by this service and failures of the caller, such as an
+     * {@link java.io.UncheckedIOException} from writing a streamed element to a client that went away, do not.
+     */
+    static boolean isUpstreamFailure(final Throwable failure) {
+        if (failure instanceof SystemException systemException) {
+            return systemException.getStatusCode() == null || systemException.getStatusCode() >= 500;
+        }
+        if (failure instanceof RestClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        if (failure instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return failure instanceof RestClientException || failure instanceof WebClientException
+            || failure instanceof IOException || failure instanceof TimeoutException;
+    }
+
+    private static boolean isRejection(final Throwable failure) {
+        return failure instanceof CallNotPermittedException || failure instanceof BulkheadFullException
+            || failure instanceof RejectedExecutionException || failure instanceof TimeoutException;
+    }
+
+    private static SystemException translate(final Throwable failure) {
+        if (failure instanceof TimeoutException) {
+            return new SystemException("Upstream call timed out", "Gateway Timeout",
+                HttpStatus.GATEWAY_TIMEOUT.value(), failure);
+        }
+        if (failure instanceof CallNotPermittedException) {
+            return new SystemException("Upstream circuit is open, try again later", UNAVAILABLE,
+                HttpStatus.SERVICE_UNAVAILABLE.value(), failure);
+        }
+        return new SystemException("Too many concurrent upstream calls, try again later", UNAVAILABLE,
+            HttpStatus.SERVICE_UNAVAILABLE.value(), failure);
+    }
+}
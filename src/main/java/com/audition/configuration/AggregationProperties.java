@@ -0,0 +1,39 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the aggregated post-with-comments endpoint, bound from {@code application.aggregation}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.aggregation")
+public class AggregationProperties {
+
+    /**
+     * What to do when fetching the comments fails for a reason other than "no comments".
+     */
+    private CommentsFailure commentsFailure = CommentsFailure.OMIT;
+
+    /**
+     * Maximum time to wait for the post and its comments.
+     */
+    private Duration timeout = Duration.ofSeconds(10);
+
+    /**
+     * Partial-failure behaviour for the comments part of the aggregate.
+     */
+    public enum CommentsFailure {
+        /**
+         * Fail the whole request with the comments error.
+         */
+        FAIL,
+        /**
+         * Return the post with an empty comment list and {@code commentsComplete=false}.
+         */
+        OMIT
+    }
+}
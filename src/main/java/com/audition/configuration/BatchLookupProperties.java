@@ -0,0 +1,30 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the batch post lookup, bound from {@code application.batch}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.batch")
+public class BatchLookupProperties {
+
+    /**
+     * Maximum number of ids accepted in one batch request.
+     */
+    private int maxIds = 200;
+
+    /**
+     * Maximum number of concurrent upstream lookups per batch request.
+     */
+    private int parallelism = 8;
+
+    /**
+     * Above this number of distinct ids the full post list is fetched once and filtered locally instead of looking
+     * up every id.
+     */
+    private int listThreshold = 20;
+}
@@ -0,0 +1,61 @@
+package com.audition.configuration;
+
+import com.audition.common.AdviceOrder;
+import com.audition.common.cache.CacheGenerations;
+import com.audition.common.cache.CacheNames;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the Caffeine backed caches in front of the integration clients. Every cache records statistics so that
+ * hits, misses and evictions are published to Micrometer by the actuator cache metrics, and reports replaced or
+ * explicitly evicted entries to {@link CacheGenerations}.
+ */
+@Configuration
+@EnableCaching(order = AdviceOrder.CACHE)
+@EnableConfigurationProperties({CacheSettings.class, WarmUpProperties.class})
+public class CacheConfiguration {
+
+    /**
+     * Creates the cache manager with one W-TinyLFU bounded cache per upstream operation.
+     *
+     * @param settings    cache settings
+     * @param generations change counters of the caches
+     * @return the cache manager, or a no-op manager when caching is disabled
+     */
+    @Bean
+    public CacheManager cacheManager(final CacheSettings settings, final CacheGenerations generations) {
+        if (!settings.isEnabled()) {
+            return new NoOpCacheManager();
+        }
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // fixes the set of caches, so only the configured (bounded) caches are ever used
+        cacheManager.setCacheNames(settings.getSpecs().keySet());
+        settings.getSpecs().forEach((name, spec) ->
+            cacheManager.registerCustomCache(name, Caffeine.from(spec)
+                .recordStats()
+                .removalListener((Object key, Object value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.EXPLICIT || cause == RemovalCause.REPLACED) {
+                        generations.increment(name);
+                    }
+                })
+                .build()));
+        if (!settings.getNotFoundTtl().isZero()) {
+            cacheManager.registerCustomCache(CacheNames.NOT_FOUND, Caffeine.newBuilder()
+                .maximumSize(settings.getNotFoundMaximumSize())
+                .expireAfterWrite(settings.getNotFoundTtl().toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build());
+        }
+        return cacheManager;
+    }
+}
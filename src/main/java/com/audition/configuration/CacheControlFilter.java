@@ -0,0 +1,110 @@
+package com.audition.configuration;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Sets {@code Cache-Control} from the route and the response status. Successful (2xx) and not modified (304)
+ * responses get the max-age configured for the most specific matching route pattern; any other status gets
+ * {@code no-store}, so that browsers and proxies never keep a transient failure such as a 503 from an open circuit.
+ * The header follows every status change, since the status of an error response is only known once the handler or the
+ * exception handler has run, but always before the body is written.
+ */
+public class CacheControlFilter extends OncePerRequestFilter {
+
+    private static final String NO_STORE = CacheControl.noStore().getHeaderValue();
+
+    private final List<Map.Entry<PathPattern, String>> maxAges;
+
+    /**
+     * Creates the filter.
+     *
+     * @param maxAge max-age per route pattern
+     */
+    public CacheControlFilter(final Map<String, Duration> maxAge) {
+        this.maxAges = maxAge.entrySet().stream()
+            .map(entry -> Map.entry(PathPatternParser.defaultInstance.parse(entry.getKey()),
+                CacheControl.maxAge(entry.getValue()).getHeaderValue()))
+            .sorted(Map.Entry.comparingByKey(PathPattern.SPECIFICITY_COMPARATOR))
+            .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final CacheControlResponse wrapped = new CacheControlResponse(response, maxAge(request));
+        wrapped.apply(response.getStatus());
+        filterChain.doFilter(request, wrapped);
+    }
+
+    private String maxAge(final HttpServletRequest request) {
+        final PathContainer path = PathContainer.parsePath(
+            request.getRequestURI().substring(request.getContextPath().length()));
+        for (final Map.Entry<PathPattern, String> entry : maxAges) {
+            if (entry.getKey().matches(path)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rewrites {@code Cache-Control} whenever the status is set.
+     */
+    private static final class CacheControlResponse extends HttpServletResponseWrapper {
+
+        private final String maxAge;
+
+        CacheControlResponse(final HttpServletResponse response, final String maxAge) {
+            super(response);
+            this.maxAge = maxAge;
+        }
+
+        @Override
+        public void setStatus(final int status) {
+            super.setStatus(status);
+            apply(status);
+        }
+
+        @Override
+        public void sendError(final int status) throws IOException {
+            apply(status);
+            super.sendError(status);
+        }
+
+        @Override
+        public void sendError(final int status, final String message) throws IOException {
+            apply(status);
+            super.sendError(status, message);
+        }
+
+        void apply(final int status) {
+            if (HttpStatusCode.valueOf(status).is2xxSuccessful() || status == HttpServletResponse.SC_NOT_MODIFIED) {
+                if (maxAge != null) {
+                    setHeader(HttpHeaders.CACHE_CONTROL, maxAge);
+                }
+            } else {
+                setHeader(HttpHeaders.CACHE_CONTROL, NO_STORE);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.audition.configuration;
+
+import com.audition.common.cache.CacheNames;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the in-process upstream data caches, bound from {@code application.cache}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.cache")
+public class CacheSettings {
+
+    /**
+     * Whether upstream results are cached at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Caffeine specification per cache name, e.g. {@code maximumSize=1000,expireAfterWrite=10m}.
+     */
+    private Map<String, String> specs = new LinkedHashMap<>(Map.of(
+        CacheNames.POSTS, "maximumSize=100,expireAfterWrite=5m",
+        CacheNames.POST, "maximumSize=1000,expireAfterWrite=10m",
+        CacheNames.COMMENTS, "maximumSize=100,expireAfterWrite=5m",
+        CacheNames.POST_COMMENTS, "maximumSize=1000,expireAfterWrite=5m",
+        CacheNames.POSTS_JSON, "maximumSize=1,expireAfterWrite=5m",
+        CacheNames.COMMENTS_JSON, "maximumSize=1,expireAfterWrite=5m"));
+
+    /**
+     * How long a not-found result is remembered. Zero disables negative caching.
+     */
+    private Duration notFoundTtl = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of remembered not-found results.
+     */
+    private long notFoundMaximumSize = 10_000;
+}
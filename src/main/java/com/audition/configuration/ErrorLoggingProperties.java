@@ -0,0 +1,25 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the error logging done by the exception handlers, bound from {@code application.logging.errors}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.logging.errors")
+public class ErrorLoggingProperties {
+
+    /**
+     * Maximum number of errors logged per response status within one window; further errors are only counted.
+     */
+    private int maxPerWindow = 10;
+
+    /**
+     * Length of the window.
+     */
+    private Duration window = Duration.ofSeconds(1);
+}
@@ -0,0 +1,80 @@
+package com.audition.configuration;
+
+import com.audition.common.cache.CacheGenerations;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Conditional GET support for the read endpoints. A strong ETag is computed from the serialized response, so a client
+ * presenting it in {@code If-None-Match} gets a 304 without a body, and {@code Cache-Control} max-age is set per
+ * route on successful responses, {@code no-store} on errors. When the response cache is enabled, the serialized
+ * bodies themselves are kept and replayed on later requests; it runs inside the ETag filter so that replayed bodies
+ * are tagged like freshly rendered ones.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpCacheProperties.class)
+public class HttpCacheConfiguration {
+
+    @Autowired
+    private HttpCacheProperties httpCacheProperties;
+
+    /**
+     * Registers the ETag filter for the post and comment routes.
+     *
+     * @return the filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.http-cache", name = "etag", havingValue = "true",
+        matchIfMissing = true)
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        final FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(
+            new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/posts", "/posts/*", "/comments");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return registration;
+    }
+
+    /**
+     * Registers the serialized response cache for the post and comment routes.
+     *
+     * @param generations   change counters of the data caches
+     * @param meterRegistry registry receiving the response cache meters
+     * @return the filter registration
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.http-cache.response-cache", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<ResponseBodyCacheFilter> responseBodyCacheFilter(
+        final CacheGenerations generations, final MeterRegistry meterRegistry) {
+        final FilterRegistrationBean<ResponseBodyCacheFilter> registration = new FilterRegistrationBean<>(
+            new ResponseBodyCacheFilter(httpCacheProperties.getResponseCache(), generations, meterRegistry));
+        registration.addUrlPatterns("/posts", "/posts/*", "/comments");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Registers the per-route Cache-Control filter for the post and comment routes. It runs outside the ETag filter so
+     * that the 304 answers of that filter keep the max-age of their route.
+     *
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<CacheControlFilter> cacheControlFilter() {
+        final FilterRegistrationBean<CacheControlFilter> registration = new FilterRegistrationBean<>(
+            new CacheControlFilter(httpCacheProperties.getMaxAge()));
+        registration.addUrlPatterns("/posts", "/posts/*", "/comments");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        return registration;
+    }
+}
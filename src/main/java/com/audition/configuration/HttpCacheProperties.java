@@ -0,0 +1,61 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * HTTP caching of the read endpoints, bound from {@code application.http-cache}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Whether GET responses carry a strong ETag and answer a matching {@code If-None-Match} with 304.
+     */
+    private boolean etag = true;
+
+    /**
+     * {@code Cache-Control: max-age} of successful responses per route pattern, e.g. {@code /posts/*: 5m}. Successful
+     * responses of routes without an entry get no Cache-Control header; error responses always get {@code no-store}.
+     */
+    private Map<String, Duration> maxAge = new LinkedHashMap<>();
+
+    /**
+     * Cache of serialized response bodies.
+     */
+    private ResponseCache responseCache = new ResponseCache();
+
+    /**
+     * Settings of the serialized response cache, bound from {@code application.http-cache.response-cache}.
+     */
+    @Getter
+    @Setter
+    public static class ResponseCache {
+
+        /**
+         * Whether serialized GET responses are cached and replayed.
+         */
+        private boolean enabled;
+
+        /**
+         * Upper bound of all cached bodies together, in bytes.
+         */
+        private long maxBytes = 16L * 1024 * 1024;
+
+        /**
+         * Responses with a larger body are not cached.
+         */
+        private int maxEntryBytes = 1024 * 1024;
+
+        /**
+         * How long a cached response is replayed at most.
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+    }
+}
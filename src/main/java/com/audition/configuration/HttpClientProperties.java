@@ -0,0 +1,74 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection settings for the HTTP client used to call the upstream API, bound from {@code application.connection}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.connection")
+public class HttpClientProperties {
+
+    /**
+     * Client engine backing the upstream RestTemplate.
+     */
+    private Engine engine = Engine.POOLED;
+
+    /**
+     * Time allowed to establish a TCP/TLS connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Time allowed between two packets of the response (socket timeout).
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Time allowed to lease a connection from the pool before failing.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /**
+     * How long an idle connection is kept alive for reuse.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Connections idle for longer than this are closed by the background evictor.
+     */
+    private Duration idleEviction = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of pooled connections across all routes.
+     */
+    private int maxTotal = 200;
+
+    /**
+     * Maximum number of pooled connections per upstream host.
+     */
+    private int maxPerRoute = 50;
+
+    /**
+     * Whether identical concurrent GET calls share a single in-flight upstream request.
+     */
+    private boolean coalesceRequests = true;
+
+    /**
+     * Available HTTP client engines.
+     */
+    public enum Engine {
+        /**
+         * Plain {@code HttpURLConnection} without connection pooling.
+         */
+        SIMPLE,
+        /**
+         * Apache HttpClient 5 with a bounded, keep-alive connection pool.
+         */
+        POOLED
+    }
+}
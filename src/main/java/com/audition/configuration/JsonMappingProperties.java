@@ -0,0 +1,25 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the shared ObjectMapper, bound from {@code application.json}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.json")
+public class JsonMappingProperties {
+
+    /**
+     * Whether the Blackbird module replaces reflective getter, setter and constructor calls with generated lambdas.
+     */
+    private boolean blackbird;
+
+    /**
+     * Whether posts and comments are read and written by the hand-written streaming codecs instead of reflective bean
+     * binding.
+     */
+    private boolean codecs;
+}
@@ -1,14 +1,14 @@
 package com.audition.configuration;
 
 import com.audition.common.logging.AuditionLogger;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
-import lombok.NoArgsConstructor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
@@ -16,14 +16,33 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 
 /**
- * Interceptor to log HTTP request and response details.
+ * Interceptor to log HTTP request and response details. Only a configurable sample of calls is logged; for those the
+ * method, URI, status and duration are logged at INFO. Bodies are logged at DEBUG, truncated, and only when enabled
+ * and the response body is buffered, so the response stream is never consumed here.
  */
 @Component
-@NoArgsConstructor
 public class LoggingInterceptor implements ClientHttpRequestInterceptor {
 
     private static final Logger LOG = LoggerFactory.getLogger(LoggingInterceptor.class);
     private final AuditionLogger logger = new AuditionLogger();
+    private final UpstreamLoggingProperties properties;
+
+    /**
+     * Creates the interceptor with default settings.
+     */
+    public LoggingInterceptor() {
+        this(new UpstreamLoggingProperties());
+    }
+
+    /**
+     * Creates the interceptor with the given settings.
+     *
+     * @param properties upstream logging settings
+     */
+    @Autowired
+    public LoggingInterceptor(final UpstreamLoggingProperties properties) {
+        this.properties = properties;
+    }
 
     /**
      * Logs request and response during HTTP calls.
@@ -37,31 +56,66 @@ public class LoggingInterceptor implements ClientHttpRequestInterceptor {
     @Override
     public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
         final ClientHttpRequestExecution execution) throws IOException {
-        final ClientHttpResponse response = execution.execute(request, body);
-        logReqRes(request, body, response);
+        if (!isSampled()) {
+            return execution.execute(request, body);
+        }
+        final long start = System.nanoTime();
+        final ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (final IOException | RuntimeException e) {
+            logger.info(LOG, "{} {} failed after {} ms: {}", request.getMethod(), request.getURI(),
+                elapsedMillis(start), e.getMessage());
+            throw e;
+        }
+        logger.info(LOG, "{} {} -> {} in {} ms", request.getMethod(), request.getURI(),
+            response.getStatusCode().value(), elapsedMillis(start));
+        if (properties.isLogBodies() && LOG.isDebugEnabled()) {
+            logBodies(body, response);
+        }
         return response;
     }
 
+    private boolean isSampled() {
+        if (!LOG.isInfoEnabled()) {
+            return false;
+        }
+        final double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0 || sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
     /**
-     * Logs request method, URI, request body, and response body.
+     * Logs the request body and the start of a buffered response body, both truncated to the configured limit. At
+     * most that many response bytes are read before the stream is reset.
      *
-     * @param request  the HTTP request
      * @param body     request body
      * @param response the HTTP response
      * @throws IOException if an I/O error occurs
      */
-    private void logReqRes(final HttpRequest request, final byte[] body, final ClientHttpResponse response)
-        throws IOException {
-        if (LOG.isInfoEnabled()) {
-            logger.info(LOG, "Method: {}", request.getMethod());
-            logger.info(LOG, "URI: {}", request.getURI());
-            logger.info(LOG, "Request Body: {}", new String(body, StandardCharsets.UTF_8));
+    private void logBodies(final byte[] body, final ClientHttpResponse response) throws IOException {
+        final int maxBytes = properties.getMaxBodyBytes();
+        logger.debug(LOG, "Request Body: {}", truncate(body, body.length, maxBytes));
 
-            try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
-                final String responseBody = reader.lines().collect(Collectors.joining("\n"));
-                logger.info(LOG, "Response Body: {}", responseBody);
-            }
+        final InputStream responseBody = response.getBody();
+        if (responseBody.markSupported()) {
+            responseBody.mark(maxBytes);
+            final byte[] prefix = responseBody.readNBytes(maxBytes);
+            final boolean truncated = prefix.length == maxBytes && responseBody.available() > 0;
+            responseBody.reset();
+            logger.debug(LOG, "Response Body: {}", text(prefix, prefix.length, truncated));
         }
     }
+
+    private static String truncate(final byte[] bytes, final int length, final int maxBytes) {
+        return text(bytes, Math.min(length, maxBytes), length > maxBytes);
+    }
+
+    private static String text(final byte[] bytes, final int length, final boolean truncated) {
+        final String text = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        return truncated ? text + "...(truncated)" : text;
+    }
+
+    private static long elapsedMillis(final long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
 }
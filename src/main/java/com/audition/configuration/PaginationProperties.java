@@ -0,0 +1,24 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the paginated collection endpoints, bound from {@code application.pagination}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.pagination")
+public class PaginationProperties {
+
+    /**
+     * Page size used when only {@code page} is given.
+     */
+    private int defaultSize = 20;
+
+    /**
+     * Largest page size a client may request; larger values are reduced to it.
+     */
+    private int maxSize = 100;
+}
@@ -0,0 +1,20 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the raw upstream passthrough for unfiltered list requests, bound from {@code application.passthrough}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.passthrough")
+public class PassthroughProperties {
+
+    /**
+     * Whether {@code GET /posts} and {@code GET /comments} without parameters return the upstream bytes unchanged
+     * instead of binding and re-serializing them.
+     */
+    private boolean enabled;
+}
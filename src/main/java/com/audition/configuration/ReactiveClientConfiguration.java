@@ -0,0 +1,54 @@
+package com.audition.configuration;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configures the non-blocking {@link WebClient} used by the reactive integration clients. Active when
+ * {@code application.integration.mode} is {@code reactive}; the pool limits and timeouts are shared with the blocking
+ * client through {@link HttpClientProperties}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.integration", name = "mode", havingValue = "reactive")
+public class ReactiveClientConfiguration {
+
+    /**
+     * Creates the Reactor Netty connection pool for upstream calls.
+     *
+     * @param properties connection settings
+     * @return the connection provider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(final HttpClientProperties properties) {
+        return ConnectionProvider.builder("audition-upstream")
+            .maxConnections(properties.getMaxPerRoute())
+            .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+            .maxIdleTime(properties.getKeepAlive())
+            .evictInBackground(properties.getIdleEviction())
+            .metrics(true)
+            .build();
+    }
+
+    /**
+     * Creates the WebClient on top of the pooled Reactor Netty client.
+     *
+     * @param builder                    the Boot configured builder, carrying the application's JSON codecs
+     * @param upstreamConnectionProvider the connection pool
+     * @param properties                 connection settings
+     * @return the upstream WebClient
+     */
+    @Bean
+    public WebClient auditionWebClient(final WebClient.Builder builder,
+        final ConnectionProvider upstreamConnectionProvider, final HttpClientProperties properties) {
+        final HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+            .responseTimeout(properties.getReadTimeout());
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the optional in-memory replica of all posts and comments, bound from {@code application.replica}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether filter queries on posts and comments are answered from the local replica.
+     */
+    private boolean enabled;
+
+    /**
+     * Delay between the end of one snapshot load and the start of the next.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Snapshots older than this are no longer served, e.g. while upstream is down; queries go upstream instead.
+     */
+    private Duration maxAge = Duration.ofMinutes(30);
+}
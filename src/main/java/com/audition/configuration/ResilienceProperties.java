@@ -0,0 +1,94 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Circuit breaker, bulkhead and time limiter settings applied to every upstream operation, bound from
+ * {@code application.resilience}. Each integration method gets its own instances built from these settings.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.resilience")
+public class ResilienceProperties {
+
+    /**
+     * Whether upstream calls are protected at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Failure rate in percent at which a circuit opens.
+     */
+    private float failureRateThreshold = 50;
+
+    /**
+     * Calls slower than this count as slow.
+     */
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+    /**
+     * Slow call rate in percent at which a circuit opens.
+     */
+    private float slowCallRateThreshold = 80;
+
+    /**
+     * Number of recent calls the failure and slow call rates are computed over.
+     */
+    private int slidingWindowSize = 20;
+
+    /**
+     * Calls needed in the window before the rates are evaluated.
+     */
+    private int minimumNumberOfCalls = 10;
+
+    /**
+     * How long an open circuit rejects calls before letting trial calls through.
+     */
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+    /**
+     * Trial calls permitted while half open.
+     */
+    private int permittedCallsInHalfOpenState = 3;
+
+    /**
+     * Concurrent calls allowed per operation; further calls wait up to {@code maxWaitDuration}. Matches the upstream
+     * connection pool's per-route limit by default.
+     */
+    private int maxConcurrentCalls = 50;
+
+    /**
+     * How long a call may wait for a bulkhead permit before it is rejected, so a short burst queues instead of failing.
+     */
+    private Duration maxWaitDuration = Duration.ofMillis(500);
+
+    /**
+     * Upper bound for a single upstream call, after which the caller gets a 504.
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /**
+     * Platform threads running time limited blocking calls, across all operations; beyond this calls are rejected
+     * with a 503. Matches the upstream connection pool's total by default. Not used in the virtual-thread mode, where
+     * the calls run on virtual threads.
+     */
+    private int poolSize = 200;
+
+    /**
+     * Whether the last successful result is served when a call is rejected, times out or fails with a 5xx.
+     */
+    private boolean serveStale = true;
+
+    /**
+     * Number of last successful results kept for stale fallbacks.
+     */
+    private long staleMaximumSize = 10_000;
+
+    /**
+     * How long a last successful result may be served as a stale fallback.
+     */
+    private Duration staleTtl = Duration.ofHours(1);
+}
@@ -0,0 +1,188 @@
+package com.audition.configuration;
+
+import com.audition.common.cache.CacheGenerations;
+import com.audition.common.cache.CacheNames;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Caches the final JSON bytes of successful GET responses, keyed by the request path with its query parameters in a
+ * normalized order; the Host header is not part of the key. A hit is written straight to the response with its
+ * Content-Length, so neither the controller nor Jackson run. Hits are written uncompressed, exactly like a miss, so the
+ * ETag computed by the enclosing filter is the same for both and compression is left to {@code server.compression}.
+ * The cache is bounded by body bytes, entries expire after the configured TTL, and an entry is dropped as soon as one
+ * of the data caches its route is built from changes (see {@link CacheGenerations}).
+ */
+public class ResponseBodyCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern POST = Pattern.compile("/posts/[^/]+");
+    private static final Pattern POST_COMMENTS = Pattern.compile("/posts/[^/]+/comments");
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.CACHE_CONTROL, HttpHeaders.LINK,
+        "X-Total-Count");
+
+    private final Cache<String, CachedResponse> responses;
+    private final CacheGenerations generations;
+    private final int maxEntryBytes;
+
+    /**
+     * Creates the filter and its cache.
+     *
+     * @param settings      size and expiry settings
+     * @param generations   change counters of the data caches
+     * @param meterRegistry registry receiving the {@code cache.*} meters of the {@code responses} cache
+     */
+    public ResponseBodyCacheFilter(final HttpCacheProperties.ResponseCache settings,
+        final CacheGenerations generations, final MeterRegistry meterRegistry) {
+        this.generations = generations;
+        this.maxEntryBytes = settings.getMaxEntryBytes();
+        this.responses = Caffeine.newBuilder()
+            .maximumWeight(settings.getMaxBytes())
+            .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+            .expireAfterWrite(settings.getTtl().toMillis(), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "responses");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+        final FilterChain filterChain) throws ServletException, IOException {
+        final List<String> sources = sources(request);
+        if (!HttpMethod.GET.matches(request.getMethod()) || sources.isEmpty() || acceptsNdjson(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CapturingResponse capturing = WebUtils.getNativeResponse(response, CapturingResponse.class);
+        if (capturing == null) {
+            final String key = key(request);
+            final long generation = generations.sum(sources);
+            final CachedResponse cached = responses.getIfPresent(key);
+            if (cached != null && cached.generation() == generation) {
+                cached.writeTo(response);
+                return;
+            }
+            capturing = new CapturingResponse(response, key, generation);
+        }
+        filterChain.doFilter(request, capturing);
+        if (!isAsyncStarted(request)) {
+            store(capturing);
+            capturing.copyBodyToResponse();
+        }
+    }
+
+    private void store(final CapturingResponse capturing) {
+        final String contentType = capturing.getContentType();
+        final int size = capturing.getContentSize();
+        if (capturing.getStatus() != HttpStatus.OK.value() || contentType == null || size > maxEntryBytes
+            || capturing.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+            || !MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return;
+        }
+        final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final String name : REPLAYED_HEADERS) {
+            final String value = capturing.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        responses.put(capturing.key, new CachedResponse(contentType, headers, capturing.getContentAsByteArray(),
+            capturing.generation));
+    }
+
+    /**
+     * Returns the data caches the route is built from; routes outside the post and comment resources are not cached.
+     */
+    private static List<String> sources(final HttpServletRequest request) {
+        final String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("/posts".equals(path)) {
+            return List.of(CacheNames.POSTS, CacheNames.POSTS_JSON, CacheNames.POST);
+        }
+        if ("/comments".equals(path)) {
+            return List.of(CacheNames.COMMENTS, CacheNames.COMMENTS_JSON);
+        }
+        if (POST_COMMENTS.matcher(path).matches()) {
+            return List.of(CacheNames.POST_COMMENTS);
+        }
+        if (POST.matcher(path).matches()) {
+            return List.of(CacheNames.POST, CacheNames.POST_COMMENTS);
+        }
+        return List.of();
+    }
+
+    private static String key(final HttpServletRequest request) {
+        final StringBuilder key = new StringBuilder(request.getRequestURI());
+        final List<String> parameters = new ArrayList<>();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (final String value : values) {
+                parameters.add(name + '=' + value);
+            }
+        });
+        if (!parameters.isEmpty()) {
+            key.append('?').append(String.join("&", parameters));
+        }
+        return key.toString();
+    }
+
+    private static boolean acceptsNdjson(final HttpServletRequest request) {
+        final String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    /**
+     * A cached response body with the headers that are replayed with it.
+     */
+    private record CachedResponse(String contentType, Map<String, String> headers, byte[] body, long generation) {
+
+        int weight() {
+            return body.length;
+        }
+
+        void writeTo(final HttpServletResponse response) throws IOException {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType);
+            headers.forEach(response::setHeader);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    /**
+     * Buffers the body of a cache miss so that it can be stored before it is written to the client.
+     */
+    private static final class CapturingResponse extends ContentCachingResponseWrapper {
+
+        private final String key;
+        private final long generation;
+
+        CapturingResponse(final HttpServletResponse response, final String key, final long generation) {
+            super(response);
+            this.key = key;
+            this.generation = generation;
+        }
+    }
+}
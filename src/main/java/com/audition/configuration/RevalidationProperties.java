@@ -0,0 +1,51 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Stale-while-revalidate settings for upstream GET responses, bound from {@code application.revalidation}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.revalidation")
+public class RevalidationProperties {
+
+    /**
+     * Whether upstream responses are kept and revalidated.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a stored response is served without contacting upstream.
+     */
+    private Duration freshFor = Duration.ofSeconds(30);
+
+    /**
+     * How long past freshness a stored response is still served while it is revalidated in the background.
+     */
+    private Duration maxStale = Duration.ofMinutes(30);
+
+    /**
+     * Upper bound of the stored response bodies in bytes.
+     */
+    private long maxBytes = 32L * 1024 * 1024;
+
+    /**
+     * Threads running background revalidations.
+     */
+    private int refreshThreads = 2;
+
+    /**
+     * Revalidations that may wait for a thread; further ones are skipped until a later request.
+     */
+    private int refreshQueue = 100;
+
+    /**
+     * Upper bound of the random delay before a revalidation starts, so that entries stored together do not all hit
+     * upstream at the same moment.
+     */
+    private Duration jitter = Duration.ofMillis(500);
+}
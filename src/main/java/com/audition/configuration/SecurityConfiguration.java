@@ -0,0 +1,38 @@
+package com.audition.configuration;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Protects the Prometheus scrape endpoint with HTTP basic authentication and the {@code METRICS} role. The credentials
+ * come from {@code spring.security.user.*}. All other routes stay open, as they were before.
+ */
+@Configuration
+public class SecurityConfiguration {
+
+    public static final String METRICS_ROLE = "METRICS";
+
+    /**
+     * Creates the security filter chain.
+     *
+     * @param http the security builder
+     * @return the filter chain
+     * @throws Exception if the chain cannot be built
+     */
+    @Bean
+    public SecurityFilterChain securityFilterChain(final HttpSecurity http) throws Exception {
+        http.authorizeHttpRequests(requests -> requests
+                .requestMatchers(EndpointRequest.to("prometheus")).hasRole(METRICS_ROLE)
+                .anyRequest().permitAll())
+            .httpBasic(Customizer.withDefaults())
+            .csrf(csrf -> csrf.disable())
+            .headers(headers -> headers.cacheControl(cacheControl -> cacheControl.disable()))
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.audition.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+
+/**
+ * Publishes the state of the upstream connection pool as Micrometer gauges.
+ */
+public class UpstreamConnectionPoolMetrics implements MeterBinder {
+
+    private static final String PREFIX = "audition.upstream.pool.";
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Creates the binder for the given connection manager.
+     *
+     * @param connectionManager the pooled connection manager to observe
+     */
+    public UpstreamConnectionPoolMetrics(final PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(PREFIX + "leased", connectionManager, manager -> manager.getTotalStats().getLeased())
+            .description("Connections currently leased to an upstream call")
+            .register(registry);
+        Gauge.builder(PREFIX + "idle", connectionManager, manager -> manager.getTotalStats().getAvailable())
+            .description("Idle connections available for reuse")
+            .register(registry);
+        Gauge.builder(PREFIX + "pending", connectionManager, manager -> manager.getTotalStats().getPending())
+            .description("Calls waiting to lease a connection")
+            .register(registry);
+        Gauge.builder(PREFIX + "max", connectionManager, manager -> manager.getTotalStats().getMax())
+            .description("Maximum number of pooled connections")
+            .register(registry);
+    }
+}
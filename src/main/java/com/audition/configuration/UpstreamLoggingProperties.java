@@ -0,0 +1,30 @@
+package com.audition.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the upstream request/response logging done by {@link LoggingInterceptor}, bound from
+ * {@code application.logging.upstream}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.logging.upstream")
+public class UpstreamLoggingProperties {
+
+    /**
+     * Fraction of upstream calls that are logged, between 0.0 (none) and 1.0 (all).
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Whether request and response bodies of sampled calls are logged at DEBUG level.
+     */
+    private boolean logBodies;
+
+    /**
+     * Maximum number of body bytes written to the log per request or response.
+     */
+    private int maxBodyBytes = 1024;
+}
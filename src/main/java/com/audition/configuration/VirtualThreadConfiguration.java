@@ -0,0 +1,91 @@
+package com.audition.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Opt-in virtual-thread execution mode, enabled with {@code application.threads.virtual=true}. Tomcat then handles
+ * every request on its own virtual thread instead of the bounded platform-thread pool, so the blocking upstream calls
+ * made by the integration clients park a cheap virtual thread rather than a worker thread. MVC async processing
+ * (reactive return values, streaming bodies) uses the same executor.
+ *
+ * <p>Virtual threads need a Java 21+ runtime. The executor is looked up at runtime so the application still
+ * compiles for Java 17; enabling the mode on an older runtime fails at startup. The executor is a bean of its own,
+ * closed on shutdown, and also runs the time limited upstream calls of the resilience aspect.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.threads", name = "virtual", havingValue = "true")
+public class VirtualThreadConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Name of the virtual-thread-per-task executor bean.
+     */
+    public static final String VIRTUAL_THREAD_EXECUTOR = "virtualThreadExecutor";
+
+    /**
+     * The virtual-thread-per-task executor shared by Tomcat, MVC async processing and the upstream calls. Closing it
+     * on shutdown waits for the tasks still running.
+     *
+     * @return the executor
+     */
+    @Bean(name = VIRTUAL_THREAD_EXECUTOR, destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Replaces Tomcat's worker pool with a virtual-thread-per-task executor.
+     *
+     * @return the protocol handler customizer
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        final ExecutorService executor = virtualThreadExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * Replaces Boot's bounded {@code applicationTaskExecutor}, which also runs the concurrent upstream fan-out of the
+     * aggregated endpoints.
+     *
+     * @return the virtual-thread task executor
+     */
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(virtualThreadExecutor());
+    }
+
+    /**
+     * Runs MVC async processing on virtual threads.
+     *
+     * @param configurer the async support configurer
+     */
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor()));
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor through {@code Executors.newVirtualThreadPerTaskExecutor()}.
+     *
+     * @return the executor
+     * @throws IllegalStateException when the runtime does not support virtual threads
+     */
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("application.threads.virtual requires a Java 21+ runtime, found "
+                + Runtime.version(), e);
+        }
+    }
+}
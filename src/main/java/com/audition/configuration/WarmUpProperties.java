@@ -0,0 +1,35 @@
+package com.audition.configuration;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the startup cache warm-up, bound from {@code application.warm-up}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.warm-up")
+public class WarmUpProperties {
+
+    /**
+     * Whether the caches are loaded before the instance reports readiness.
+     */
+    private boolean enabled;
+
+    /**
+     * Longest time readiness is held back; loads still running are cancelled and the instance starts partially warm.
+     */
+    private Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of concurrent upstream loads.
+     */
+    private int parallelism = 2;
+
+    /**
+     * Whether the per-post caches ({@code post}, {@code postComments}) are filled from the bulk-loaded lists.
+     */
+    private boolean seedEntityCaches = true;
+}
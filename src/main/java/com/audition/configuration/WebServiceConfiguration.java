@@ -1,20 +1,44 @@
 package com.audition.configuration;
 
+import com.audition.common.logging.ErrorLogLimiter;
+import com.audition.integration.JsonCodecs;
+import com.audition.integration.RequestCoalescingInterceptor;
+import com.audition.integration.UpstreamRevalidationInterceptor;
+import com.audition.integration.UpstreamTimingInterceptor;
+import com.audition.model.json.ModelCodecModule;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies.LowerCamelCaseStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.trace.Tracer;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.util.CollectionUtils;
@@ -25,69 +49,234 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 
 @Configuration
+@EnableConfigurationProperties({HttpClientProperties.class, AggregationProperties.class,
+    BatchLookupProperties.class, UpstreamLoggingProperties.class, PaginationProperties.class,
+    ResilienceProperties.class, RevalidationProperties.class, ReplicaProperties.class,
+    PassthroughProperties.class, JsonMappingProperties.class, ErrorLoggingProperties.class})
 public class WebServiceConfiguration implements WebMvcConfigurer {
 
     private static final String YEAR_MONTH_DAY_PATTERN = "yyyy-MM-dd";
 
     /**
-     * Creates and configures an ObjectMapper bean for JSON serialization and deserialization.
+     * Creates and configures the ObjectMapper shared by the web layer, the upstream clients and their message
+     * converters.
      *
+     * @param properties mapper settings
      * @return a customized ObjectMapper instance
      */
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(final JsonMappingProperties properties) {
 
         final ObjectMapper objectMapper = new ObjectMapper();
         //  1. allows for date format as yyyy-MM-dd
         objectMapper.setDateFormat(new SimpleDateFormat(YEAR_MONTH_DAY_PATTERN, Locale.ENGLISH));
         //  2. Does not fail on unknown properties
-        objectMapper.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         //  3. maps to camelCase
         objectMapper.setPropertyNamingStrategy(new LowerCamelCaseStrategy());
         //  4. Does not include null values or empty values
-        objectMapper.setSerializationInclusion(Include.NON_NULL);
         objectMapper.setSerializationInclusion(Include.NON_EMPTY);
         //  5. does not write dates as timestamps.
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        return new ObjectMapper();
+        //  6. optionally replaces reflective property access with generated lambdas
+        if (properties.isBlackbird()) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        //  7. optionally binds posts and comments with hand-written codecs
+        if (properties.isCodecs()) {
+            objectMapper.registerModule(new ModelCodecModule());
+        }
+        return objectMapper;
     }
 
+    /**
+     * Creates the readers the upstream clients bind streamed elements with.
+     *
+     * @param objectMapper the shared ObjectMapper
+     * @return the shared readers
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        final RestTemplate restTemplate = new RestTemplate(
-            new BufferingClientHttpRequestFactory(createClientFactory()));
-        restTemplate.getMessageConverters().add(0, getCustomMappingJackson2HttpMessageConverter());
+    public JsonCodecs jsonCodecs(final ObjectMapper objectMapper) {
+        return new JsonCodecs(objectMapper);
+    }
+
+    /**
+     * Creates the limiter of the error logging done by the exception handlers.
+     *
+     * @param properties error logging settings
+     * @return the limiter
+     */
+    @Bean
+    public ErrorLogLimiter errorLogLimiter(final ErrorLoggingProperties properties) {
+        return new ErrorLogLimiter(properties.getMaxPerWindow(), properties.getWindow());
+    }
+
+    /**
+     * Creates the bounded connection pool shared by all upstream calls when the pooled engine is selected.
+     *
+     * @param properties connection settings
+     * @return the pooled connection manager
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "application.connection", name = "engine", havingValue = "pooled",
+        matchIfMissing = true)
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(final HttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(properties.getMaxTotal())
+            .setMaxConnPerRoute(properties.getMaxPerRoute())
+            .setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+                .build())
+            .build();
+    }
+
+    /**
+     * Creates the keep-alive Apache HttpClient on top of the pooled connection manager.
+     *
+     * @param connectionManager the pooled connection manager
+     * @param properties        connection settings
+     * @return the pooled HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "application.connection", name = "engine", havingValue = "pooled",
+        matchIfMissing = true)
+    public CloseableHttpClient upstreamHttpClient(final PoolingHttpClientConnectionManager connectionManager,
+        final HttpClientProperties properties) {
+        final RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeout().toMillis()))
+            .setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getConnectionRequestTimeout().toMillis()))
+            .setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeout().toMillis()))
+            .build();
+        final TimeValue keepAlive = TimeValue.ofMilliseconds(properties.getKeepAlive().toMillis());
+        return HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(properties.getIdleEviction().toMillis()))
+            .build();
+    }
+
+    /**
+     * Exposes leased, idle and pending connection gauges of the upstream pool.
+     *
+     * @param connectionManager the pooled connection manager
+     * @return binder registering the pool gauges
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.connection", name = "engine", havingValue = "pooled",
+        matchIfMissing = true)
+    public MeterBinder upstreamConnectionPoolMetrics(final PoolingHttpClientConnectionManager connectionManager) {
+        return new UpstreamConnectionPoolMetrics(connectionManager);
+    }
+
+    /**
+     * Creates the stale-while-revalidate interceptor of {@link #restTemplate}. Its background revalidations bypass the
+     * other interceptors of the RestTemplate but are still logged and timed.
+     *
+     * @param properties           revalidation settings
+     * @param connectionProperties connection settings
+     * @param upstreamHttpClient   pooled HTTP client, if the pooled engine is selected
+     * @param meterRegistry        registry receiving the revalidation counter and exchange timer
+     * @param loggingInterceptor   upstream call logging
+     * @return the revalidation interceptor
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "application.revalidation", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public UpstreamRevalidationInterceptor upstreamRevalidationInterceptor(final RevalidationProperties properties,
+        final HttpClientProperties connectionProperties, final ObjectProvider<CloseableHttpClient> upstreamHttpClient,
+        final MeterRegistry meterRegistry, final LoggingInterceptor loggingInterceptor) {
+        final ClientHttpRequestFactory refreshRequestFactory = new InterceptingClientHttpRequestFactory(
+            createClientFactory(connectionProperties, upstreamHttpClient.getIfAvailable()),
+            List.of(loggingInterceptor, new UpstreamTimingInterceptor(meterRegistry)));
+        return new UpstreamRevalidationInterceptor(properties, refreshRequestFactory, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(final HttpClientProperties properties,
+        final ObjectProvider<CloseableHttpClient> upstreamHttpClient, final MeterRegistry meterRegistry,
+        final UpstreamLoggingProperties loggingProperties, final LoggingInterceptor loggingInterceptor,
+        final ObjectProvider<UpstreamRevalidationInterceptor> revalidationInterceptor,
+        final ObjectMapper objectMapper) {
+        final ClientHttpRequestFactory requestFactory = createClientFactory(properties,
+            upstreamHttpClient.getIfAvailable());
+        // responses are only buffered when their bodies are logged
+        final RestTemplate restTemplate = new RestTemplate(loggingProperties.isLogBodies()
+            ? new BufferingClientHttpRequestFactory(requestFactory)
+            : requestFactory);
+        restTemplate.getMessageConverters().add(0, getCustomMappingJackson2HttpMessageConverter(objectMapper));
 
         List<ClientHttpRequestInterceptor> interceptors = restTemplate.getInterceptors();
         if (CollectionUtils.isEmpty(interceptors)) {
             interceptors = new ArrayList<>();
         }
-        interceptors.add(new LoggingInterceptor());
+        revalidationInterceptor.ifAvailable(interceptors::add);
+        if (properties.isCoalesceRequests()) {
+            interceptors.add(new RequestCoalescingInterceptor(meterRegistry));
+        }
+        interceptors.add(loggingInterceptor);
+        interceptors.add(new UpstreamTimingInterceptor(meterRegistry));
         restTemplate.setInterceptors(interceptors);
 
         return restTemplate;
     }
 
+    /**
+     * Creates a RestTemplate for streamed upstream reads. It shares the connection pool with {@link #restTemplate} but
+     * never buffers responses and does not coalesce or revalidate requests, so large arrays can be parsed
+     * incrementally.
+     *
+     * @param properties         connection settings
+     * @param upstreamHttpClient pooled HTTP client, if the pooled engine is selected
+     * @param meterRegistry      registry receiving the exchange timer
+     * @param loggingInterceptor upstream call logging
+     * @param objectMapper       the shared ObjectMapper
+     * @return the streaming RestTemplate
+     */
+    @Bean
+    public RestTemplate streamingRestTemplate(final HttpClientProperties properties,
+        final ObjectProvider<CloseableHttpClient> upstreamHttpClient, final MeterRegistry meterRegistry,
+        final LoggingInterceptor loggingInterceptor, final ObjectMapper objectMapper) {
+        final RestTemplate restTemplate = new RestTemplate(
+            createClientFactory(properties, upstreamHttpClient.getIfAvailable()));
+        restTemplate.getMessageConverters().add(0, getCustomMappingJackson2HttpMessageConverter(objectMapper));
+        restTemplate.setInterceptors(List.of(loggingInterceptor, new UpstreamTimingInterceptor(meterRegistry)));
+        return restTemplate;
+    }
+
     /**
      * Creates a custom MessageConverter with a custom ObjectMapper.
      *
+     * @param objectMapper the shared ObjectMapper
      * @return a custom message converter for JSON processing
      */
-    private MappingJackson2HttpMessageConverter getCustomMappingJackson2HttpMessageConverter() {
+    private MappingJackson2HttpMessageConverter getCustomMappingJackson2HttpMessageConverter(
+        final ObjectMapper objectMapper) {
         final MappingJackson2HttpMessageConverter customConverter = new MappingJackson2HttpMessageConverter();
-        customConverter.setObjectMapper(objectMapper());
+        customConverter.setObjectMapper(objectMapper);
         return customConverter;
     }
 
 
     /**
-     * Creates a custom SimpleClientHttpRequestFactory with output streaming disabled.
+     * Creates the request factory for the configured engine: the pooled Apache HttpClient when available, otherwise a
+     * SimpleClientHttpRequestFactory with output streaming disabled.
      *
+     * @param properties connection settings
+     * @param httpClient pooled HTTP client, or null when the simple engine is selected
      * @return customized request factory
      */
-    private SimpleClientHttpRequestFactory createClientFactory() {
+    private ClientHttpRequestFactory createClientFactory(final HttpClientProperties properties,
+        final CloseableHttpClient httpClient) {
+        if (httpClient != null) {
+            return new HttpComponentsClientHttpRequestFactory(httpClient);
+        }
         final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
         requestFactory.setOutputStreaming(false);
+        requestFactory.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.getReadTimeout().toMillis());
         return requestFactory;
     }
 
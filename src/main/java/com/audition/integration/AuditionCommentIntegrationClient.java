@@ -1,14 +1,24 @@
 package com.audition.integration;
 
+import com.audition.common.cache.CacheNames;
 import com.audition.common.exception.SystemException;
 import com.audition.model.AuditionPostComment;
+import com.audition.model.RawJsonArray;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -26,34 +36,49 @@ public class AuditionCommentIntegrationClient {
     @Autowired
     private RestTemplate restTemplate;
 
-    private static final String POSTS_ENDPOINT = "https://jsonplaceholder.typicode.com/posts";
-    private static final String COMMENTS_ENDPOINT = "https://jsonplaceholder.typicode.com/comments";
+    @Autowired
+    @Qualifier("streamingRestTemplate")
+    private RestTemplate streamingRestTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonCodecs jsonCodecs;
+
+    private static final String DEFAULT_BASE_URL = "https://jsonplaceholder.typicode.com";
+    private static final String POSTS_PATH = "/posts";
+    private static final String COMMENTS_PATH = "/comments";
     private static final String RESOURCE_NOT_FOUND = "Resource Not Found";
 
+    @Value("${application.upstream.base-url:" + DEFAULT_BASE_URL + "}")
+    private String baseUrl = DEFAULT_BASE_URL;
+
     /**
      * Retrieves a list of comments for a specific audition post. This method makes a RestTemplate call to get comments
-     * for posts from https://jsonplaceholder.typicode.com/comments
+     * for posts from the configured upstream /comments
      *
      * @param postId : String
      * @return List of AuditionPostComment
      * @throws IllegalArgumentException If no comments with Post id is available.
      */
+    @Cacheable(CacheNames.POST_COMMENTS)
     public List<AuditionPostComment> getCommentsForPost(final Integer postId) {
         try {
             final ResponseEntity<AuditionPostComment[]> responseEntity = restTemplate.getForEntity(
-                POSTS_ENDPOINT + "/{id}/comments", AuditionPostComment[].class, postId);
+                baseUrl + POSTS_PATH + "/{id}/comments", AuditionPostComment[].class, postId);
             final AuditionPostComment[] auditionPostComment = responseEntity.getBody();
 
             if ((auditionPostComment != null ? auditionPostComment.length : 0) > 0) {
                 return List.of(auditionPostComment);
             } else {
-                throw new SystemException("Cannot find comments with Post id " + postId, RESOURCE_NOT_FOUND,
+                throw SystemException.expected("Cannot find comments with Post id " + postId, RESOURCE_NOT_FOUND,
                     HttpStatus.NOT_FOUND.value());
             }
 
         } catch (final HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("Cannot find comments with Post id " + postId, RESOURCE_NOT_FOUND,
+                throw SystemException.expected("Cannot find comments with Post id " + postId, RESOURCE_NOT_FOUND,
                     HttpStatus.NOT_FOUND.value(), e);
             } else {
                 throw new SystemException(e.getMessage(), "System Error", e.getStatusCode().value(),
@@ -69,22 +94,87 @@ public class AuditionCommentIntegrationClient {
      * @return List of AuditionPostComment.
      * @throws SystemException If Resource not found with query params.
      */
+    @Cacheable(CacheNames.COMMENTS)
     public List<AuditionPostComment> getComments(final Map<String, Object> queryParams) {
         try {
-            final URI uri = buildUriWithQueryParams(COMMENTS_ENDPOINT, queryParams);
+            final URI uri = buildUriWithQueryParams(baseUrl + COMMENTS_PATH, queryParams);
             final ResponseEntity<AuditionPostComment[]> responseEntity = restTemplate.getForEntity(uri,
                 AuditionPostComment[].class);
             final AuditionPostComment[] auditionPostComment = responseEntity.getBody();
             if (auditionPostComment != null && auditionPostComment.length > 0) {
                 return List.of(auditionPostComment);
             } else {
-                throw new SystemException("Cannot find comments with Post id ", RESOURCE_NOT_FOUND,
+                throw SystemException.expected("Cannot find comments with Post id ", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value());
+            }
+
+        } catch (final HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                throw SystemException.expected("Cannot find comments ", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value(), e);
+            } else {
+                throw new SystemException(e.getMessage(), "System Error", e.getStatusCode().value(),
+                    e);
+            }
+        }
+    }
+
+    /**
+     * Retrieves all audition post comments as the bytes upstream sent, without binding them. The payload is only
+     * checked to be a JSON array of objects, which also yields the number of comments. Like {@link #getComments}, an
+     * empty array is reported as not found.
+     *
+     * @return the upstream JSON array
+     * @throws SystemException If no comments are available or upstream returned something else than an array.
+     */
+    @Cacheable(CacheNames.COMMENTS_JSON)
+    public RawJsonArray getCommentsJson() {
+        try {
+            final ResponseEntity<byte[]> responseEntity = restTemplate.exchange(
+                RequestEntity.get(URI.create(baseUrl + COMMENTS_PATH)).accept(MediaType.APPLICATION_JSON).build(),
+                byte[].class);
+            final byte[] content = Optional.ofNullable(responseEntity.getBody()).orElseThrow(
+                () -> SystemException.expected("Cannot find comments ", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value()));
+            final int size = JsonArrayReader.countObjects(objectMapper, content);
+            if (size == 0) {
+                // an empty array is a 404, as for the bound comment list
+                throw SystemException.expected("Cannot find comments with Post id ", RESOURCE_NOT_FOUND,
                     HttpStatus.NOT_FOUND.value());
             }
+            return new RawJsonArray(content, size);
+        } catch (final HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                throw SystemException.expected("Cannot find comments ", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value(), e);
+            } else {
+                throw new SystemException(e.getMessage(), "System Error", e.getStatusCode().value(), e);
+            }
+        }
+    }
 
+    /**
+     * Streams audition post comments matching the query parameters. The upstream array is parsed incrementally and each
+     * comment is handed to the consumer as soon as it is read, so memory use does not grow with the response size.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @param consumer    receives each comment in upstream order
+     * @return number of comments streamed
+     * @throws SystemException If Resource not found with query params.
+     */
+    public int streamComments(final Map<String, Object> queryParams,
+        final Consumer<? super AuditionPostComment> consumer) {
+        try {
+            final URI uri = buildUriWithQueryParams(baseUrl + COMMENTS_PATH, queryParams);
+            final Integer count = streamingRestTemplate.execute(uri, HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> JsonArrayReader.forEachElement(jsonCodecs.getCommentReader(), response.getBody(),
+                    consumer));
+            return count != null ? count : 0;
         } catch (final HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("Cannot find comments ", RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value(), e);
+                throw SystemException.expected("Cannot find comments ", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value(), e);
             } else {
                 throw new SystemException(e.getMessage(), "System Error", e.getStatusCode().value(),
                     e);
@@ -93,8 +183,8 @@ public class AuditionCommentIntegrationClient {
     }
 
 
-    private URI buildUriWithQueryParams(final String baseUrl, final Map<String, Object> queryParams) {
-        final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl);
+    private URI buildUriWithQueryParams(final String endpoint, final Map<String, Object> queryParams) {
+        final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(endpoint);
         Optional.ofNullable(queryParams)
             .ifPresent(params -> params.forEach((key, value) -> builder.queryParam(key, value)));
         return builder.build().toUri();
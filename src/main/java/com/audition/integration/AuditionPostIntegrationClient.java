@@ -1,14 +1,24 @@
 package com.audition.integration;
 
+import com.audition.common.cache.CacheNames;
 import com.audition.common.exception.SystemException;
 import com.audition.model.AuditionPost;
+import com.audition.model.RawJsonArray;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -27,34 +37,50 @@ public class AuditionPostIntegrationClient {
     @Autowired
     private RestTemplate restTemplate;
 
-    private static final String POSTS_ENDPOINT = "https://jsonplaceholder.typicode.com/posts";
+    @Autowired
+    @Qualifier("streamingRestTemplate")
+    private RestTemplate streamingRestTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JsonCodecs jsonCodecs;
+
+    private static final String DEFAULT_BASE_URL = "https://jsonplaceholder.typicode.com";
+    private static final String POSTS_PATH = "/posts";
     private static final String RESOURCE_NOT_FOUND = "Resource Not Found";
 
+    @Value("${application.upstream.base-url:" + DEFAULT_BASE_URL + "}")
+    private String baseUrl = DEFAULT_BASE_URL;
+
     /**
      * Retrieves a list of audition posts based on the provided query parameters. This method makes a RestTemplate call
-     * to get posts from https://jsonplaceholder.typicode.com/posts
+     * to get posts from the configured upstream /posts
      *
      * @param queryParams A map of query parameters where the key is the parameter name.
      * @return List of AuditionPost.
      * @throws IllegalArgumentException If the No post is available.
      */
+    @Cacheable(CacheNames.POSTS)
     public List<AuditionPost> getPosts(final Map<String, Object> queryParams) {
 
         try {
-            final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(POSTS_ENDPOINT);
+            final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + POSTS_PATH);
             Optional.ofNullable(queryParams)
                 .ifPresent(params -> params.forEach((key, value) -> builder.queryParam(key, value)));
 
             final URI uri = builder.build().toUri();
             final ResponseEntity<AuditionPost[]> responseEntity = restTemplate.getForEntity(uri, AuditionPost[].class);
             final AuditionPost[] auditionPost = Optional.ofNullable(responseEntity.getBody()).orElseThrow(
-                () -> new SystemException("No post available", RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value()));
+                () -> SystemException.expected("No post available", RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value()));
 
             return List.of(auditionPost);
 
         } catch (final HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("No post available", RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value(), e);
+                throw SystemException.expected("No post available", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value(), e);
             } else {
                 throw new SystemException(e.getMessage(), "System error ", e.getStatusCode().value(), e);
             }
@@ -64,23 +90,81 @@ public class AuditionPostIntegrationClient {
     }
 
 
+    /**
+     * Retrieves all audition posts as the bytes upstream sent, without binding them. The payload is only checked to be
+     * a JSON array of objects, which also yields the number of posts.
+     *
+     * @return the upstream JSON array
+     * @throws SystemException If the No post is available or upstream returned something else than an array.
+     */
+    @Cacheable(CacheNames.POSTS_JSON)
+    public RawJsonArray getPostsJson() {
+        try {
+            final ResponseEntity<byte[]> responseEntity = restTemplate.exchange(
+                RequestEntity.get(URI.create(baseUrl + POSTS_PATH)).accept(MediaType.APPLICATION_JSON).build(),
+                byte[].class);
+            final byte[] content = Optional.ofNullable(responseEntity.getBody()).orElseThrow(
+                () -> SystemException.expected("No post available", RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value()));
+            return new RawJsonArray(content, JsonArrayReader.countObjects(objectMapper, content));
+        } catch (final HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                throw SystemException.expected("No post available", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value(), e);
+            } else {
+                throw new SystemException(e.getMessage(), "System error ", e.getStatusCode().value(), e);
+            }
+        }
+    }
+
+    /**
+     * Streams audition posts matching the query parameters. The upstream array is parsed incrementally and each post is
+     * handed to the consumer as soon as it is read, so memory use does not grow with the response size.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @param consumer    receives each post in upstream order
+     * @return number of posts streamed
+     * @throws SystemException If the upstream request fails.
+     */
+    public int streamPosts(final Map<String, Object> queryParams, final Consumer<? super AuditionPost> consumer) {
+        try {
+            final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + POSTS_PATH);
+            Optional.ofNullable(queryParams)
+                .ifPresent(params -> params.forEach((key, value) -> builder.queryParam(key, value)));
+
+            final Integer count = streamingRestTemplate.execute(builder.build().toUri(), HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> JsonArrayReader.forEachElement(jsonCodecs.getPostReader(), response.getBody(),
+                    consumer));
+            return count != null ? count : 0;
+        } catch (final HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+                throw SystemException.expected("No post available", RESOURCE_NOT_FOUND,
+                    HttpStatus.NOT_FOUND.value(), e);
+            } else {
+                throw new SystemException(e.getMessage(), "System error ", e.getStatusCode().value(), e);
+            }
+        }
+    }
+
+
     /**
      * Retrieves audition posts based on the postId. This method makes a RestTemplate call to get posts from
-     * https://jsonplaceholder.typicode.com/posts
+     * the configured upstream /posts
      *
      * @param id : String
      * @return AuditionPost
      * @throws SystemException If Resource not found with id.
      */
+    @Cacheable(cacheNames = CacheNames.POST, unless = "#result == null")
     public AuditionPost getPostById(final String id) {
 
         try {
-            final ResponseEntity<AuditionPost> responseEntity = restTemplate.getForEntity(POSTS_ENDPOINT + "/{id}",
-                AuditionPost.class, id);
+            final ResponseEntity<AuditionPost> responseEntity = restTemplate.getForEntity(
+                baseUrl + POSTS_PATH + "/{id}", AuditionPost.class, id);
             return responseEntity.getBody();
         } catch (final HttpClientErrorException e) {
             if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                throw new SystemException("Cannot find a Post with given id " + id, RESOURCE_NOT_FOUND,
+                throw SystemException.expected("Cannot find a Post with given id " + id, RESOURCE_NOT_FOUND,
                     HttpStatus.NOT_FOUND.value(), e);
             } else {
                 throw new SystemException(e.getMessage(), "System error ", e.getStatusCode().value(), e);
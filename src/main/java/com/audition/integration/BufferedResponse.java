@@ -0,0 +1,52 @@
+package com.audition.integration;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Fully read upstream response that can be handed out to several callers, each getting its own copy.
+ */
+record BufferedResponse(HttpStatusCode statusCode, String statusText, HttpHeaders headers, byte[] body) {
+
+    static BufferedResponse of(final ClientHttpResponse response) throws IOException {
+        final HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        return new BufferedResponse(response.getStatusCode(), response.getStatusText(),
+            HttpHeaders.readOnlyHttpHeaders(headers), StreamUtils.copyToByteArray(response.getBody()));
+    }
+
+    ClientHttpResponse copy() {
+        return new ClientHttpResponse() {
+
+            @Override
+            public HttpStatusCode getStatusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public String getStatusText() {
+                return statusText;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public void close() {
+                // nothing to release, the body is held in memory
+            }
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Reads a JSON array element by element with the Jackson streaming parser, so only one element is held in memory at a
+ * time.
+ */
+final class JsonArrayReader {
+
+    private JsonArrayReader() {
+    }
+
+    /**
+     * Maps every element of the JSON array in {@code body} to {@code type} and hands it to {@code consumer}.
+     *
+     * @param objectMapper mapper used to bind the elements
+     * @param body         stream positioned at the start of a JSON array
+     * @param type         element type
+     * @param consumer     receives each element as soon as it is parsed
+     * @param <T>          element type
+     * @return number of elements read
+     * @throws IOException     if the stream cannot be read
+     * @throws SystemException with status 502 if the body is not a complete JSON array of objects
+     */
+    static <T> int forEachElement(final ObjectMapper objectMapper, final InputStream body, final Class<T> type,
+        final Consumer<? super T> consumer) throws IOException {
+        return forEachElement(objectMapper.readerFor(type), body, consumer);
+    }
+
+    /**
+     * Binds every element of the JSON array in {@code body} with {@code reader} and hands it to {@code consumer}.
+     *
+     * @param reader   reader for the element type
+     * @param body     stream positioned at the start of a JSON array
+     * @param consumer receives each element as soon as it is parsed
+     * @param <T>      element type
+     * @return number of elements read
+     * @throws IOException     if the stream cannot be read
+     * @throws SystemException with status 502 if the body is not a complete JSON array of objects; the elements
+     *                         before the error have already been handed to the consumer
+     */
+    static <T> int forEachElement(final ObjectReader reader, final InputStream body,
+        final Consumer<? super T> consumer) throws IOException {
+        try (JsonParser parser = reader.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw unexpectedPayload(null);
+            }
+            int count = 0;
+            JsonToken token = parser.nextToken();
+            while (token == JsonToken.START_OBJECT) {
+                consumer.accept(reader.readValue(parser));
+                count++;
+                token = parser.nextToken();
+            }
+            if (token != JsonToken.END_ARRAY || parser.nextToken() != null) {
+                throw unexpectedPayload(null);
+            }
+            return count;
+        } catch (final JsonProcessingException e) {
+            throw unexpectedPayload(e);
+        }
+    }
+
+    /**
+     * Checks that {@code content} is a JSON array of objects and counts its elements. The elements are skipped token
+     * by token, without binding them or building a tree.
+     *
+     * @param objectMapper mapper providing the parser factory
+     * @param content      the JSON bytes
+     * @return number of elements
+     * @throws SystemException with status 502 if the content is not a JSON array of objects
+     */
+    static int countObjects(final ObjectMapper objectMapper, final byte[] content) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(content)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw unexpectedPayload(null);
+            }
+            int count = 0;
+            JsonToken token = parser.nextToken();
+            while (token == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                count++;
+                token = parser.nextToken();
+            }
+            if (token != JsonToken.END_ARRAY || parser.nextToken() != null) {
+                throw unexpectedPayload(null);
+            }
+            return count;
+        } catch (final IOException e) {
+            throw unexpectedPayload(e);
+        }
+    }
+
+    private static SystemException unexpectedPayload(final IOException cause) {
+        return new SystemException("Upstream returned an unexpected payload", "Bad Gateway",
+            HttpStatus.BAD_GATEWAY.value(), cause);
+    }
+}
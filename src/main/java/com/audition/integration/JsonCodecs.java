@@ -0,0 +1,30 @@
+package com.audition.integration;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Getter;
+
+/**
+ * Readers of the upstream element types, built once from the shared ObjectMapper. An ObjectReader for a fixed type
+ * resolves its deserializer up front, so binding the elements of a streamed array skips the per-call lookup that
+ * {@link ObjectMapper#readValue(com.fasterxml.jackson.core.JsonParser, Class)} performs. Whole arrays are not read
+ * here; they are bound by the RestTemplate message converter, which uses the same mapper.
+ */
+@Getter
+public class JsonCodecs {
+
+    private final ObjectReader postReader;
+    private final ObjectReader commentReader;
+
+    /**
+     * Creates the readers.
+     *
+     * @param objectMapper the shared ObjectMapper
+     */
+    public JsonCodecs(final ObjectMapper objectMapper) {
+        this.postReader = objectMapper.readerFor(AuditionPost.class);
+        this.commentReader = objectMapper.readerFor(AuditionPostComment.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPostComment;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of {@link AuditionCommentIntegrationClient} built on {@link WebClient}. Errors are mapped to
+ * the same {@link SystemException} status and title as the blocking client.
+ */
+@Component
+@NoArgsConstructor
+@ConditionalOnProperty(prefix = "application.integration", name = "mode", havingValue = "reactive")
+public class ReactiveAuditionCommentIntegrationClient {
+
+    @Autowired
+    private WebClient auditionWebClient;
+
+    private static final String DEFAULT_BASE_URL = "https://jsonplaceholder.typicode.com";
+    private static final String POSTS_PATH = "/posts";
+    private static final String COMMENTS_PATH = "/comments";
+    private static final String RESOURCE_NOT_FOUND = "Resource Not Found";
+
+    @Value("${application.upstream.base-url:" + DEFAULT_BASE_URL + "}")
+    private String baseUrl = DEFAULT_BASE_URL;
+
+    /**
+     * Retrieves the comments for a specific audition post.
+     *
+     * @param postId : Integer
+     * @return Flux of AuditionPostComment, failing with a 404 SystemException when the post has no comments
+     */
+    public Flux<AuditionPostComment> getCommentsForPost(final Integer postId) {
+        final String notFoundMessage = "Cannot find comments with Post id " + postId;
+        return auditionWebClient.get()
+            .uri(baseUrl + POSTS_PATH + "/{id}/comments", postId)
+            .retrieve()
+            .bodyToFlux(AuditionPostComment.class)
+            .switchIfEmpty(Flux.error(() -> notFound(notFoundMessage)))
+            .onErrorMap(WebClientResponseException.class, e -> toSystemException(e, notFoundMessage));
+    }
+
+    /**
+     * Retrieves audition post comments based on the provided query parameters.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @return Flux of AuditionPostComment, failing with a 404 SystemException when nothing matches
+     */
+    public Flux<AuditionPostComment> getComments(final Map<String, Object> queryParams) {
+        final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + COMMENTS_PATH);
+        Optional.ofNullable(queryParams)
+            .ifPresent(params -> params.forEach((key, value) -> builder.queryParam(key, value)));
+        final URI uri = builder.build().toUri();
+
+        return auditionWebClient.get()
+            .uri(uri)
+            .retrieve()
+            .bodyToFlux(AuditionPostComment.class)
+            .switchIfEmpty(Flux.error(() -> notFound("Cannot find comments with Post id ")))
+            .onErrorMap(WebClientResponseException.class, e -> toSystemException(e, "Cannot find comments "));
+    }
+
+    private SystemException notFound(final String message) {
+        return SystemException.expected(message, RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value());
+    }
+
+    private Throwable toSystemException(final WebClientResponseException e, final String notFoundMessage) {
+        if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return SystemException.expected(notFoundMessage, RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value(), e);
+        } else if (e.getStatusCode().is4xxClientError()) {
+            return new SystemException(e.getMessage(), "System Error", e.getStatusCode().value(), e);
+        }
+        return e;
+    }
+}
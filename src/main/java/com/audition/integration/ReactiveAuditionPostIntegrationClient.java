@@ -0,0 +1,81 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link AuditionPostIntegrationClient} built on {@link WebClient}. Errors are mapped to the
+ * same {@link SystemException} status and title as the blocking client.
+ */
+@Component
+@NoArgsConstructor
+@ConditionalOnProperty(prefix = "application.integration", name = "mode", havingValue = "reactive")
+public class ReactiveAuditionPostIntegrationClient {
+
+    @Autowired
+    private WebClient auditionWebClient;
+
+    private static final String DEFAULT_BASE_URL = "https://jsonplaceholder.typicode.com";
+    private static final String POSTS_PATH = "/posts";
+    private static final String RESOURCE_NOT_FOUND = "Resource Not Found";
+
+    @Value("${application.upstream.base-url:" + DEFAULT_BASE_URL + "}")
+    private String baseUrl = DEFAULT_BASE_URL;
+
+    /**
+     * Retrieves audition posts based on the provided query parameters.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @return Flux of AuditionPost.
+     */
+    public Flux<AuditionPost> getPosts(final Map<String, Object> queryParams) {
+        final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + POSTS_PATH);
+        Optional.ofNullable(queryParams)
+            .ifPresent(params -> params.forEach((key, value) -> builder.queryParam(key, value)));
+        final URI uri = builder.build().toUri();
+
+        return auditionWebClient.get()
+            .uri(uri)
+            .retrieve()
+            .bodyToFlux(AuditionPost.class)
+            .onErrorMap(WebClientResponseException.class, e -> toSystemException(e, "No post available"));
+    }
+
+    /**
+     * Retrieves an audition post based on the postId.
+     *
+     * @param id : String
+     * @return Mono of AuditionPost
+     */
+    public Mono<AuditionPost> getPostById(final String id) {
+        return auditionWebClient.get()
+            .uri(baseUrl + POSTS_PATH + "/{id}", id)
+            .retrieve()
+            .bodyToMono(AuditionPost.class)
+            .onErrorMap(WebClientResponseException.class,
+                e -> toSystemException(e, "Cannot find a Post with given id " + id));
+    }
+
+    private Throwable toSystemException(final WebClientResponseException e, final String notFoundMessage) {
+        if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+            return SystemException.expected(notFoundMessage, RESOURCE_NOT_FOUND, HttpStatus.NOT_FOUND.value(), e);
+        } else if (e.getStatusCode().is4xxClientError()) {
+            return new SystemException(e.getMessage(), "System error ", e.getStatusCode().value(), e);
+        }
+        return e;
+    }
+}
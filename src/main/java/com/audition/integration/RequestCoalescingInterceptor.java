@@ -0,0 +1,80 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Single-flight interceptor for upstream GET calls. Concurrent requests for the same normalized URI share one in-flight
+ * upstream call: the first caller executes it, the others wait for its buffered response (or its failure) and receive
+ * their own copy, so every integration client still maps the result to a model or a {@code SystemException}.
+ */
+public class RequestCoalescingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final ConcurrentMap<String, CompletableFuture<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter deduplicated;
+
+    /**
+     * Creates the interceptor and registers its deduplication counter.
+     *
+     * @param meterRegistry registry receiving the {@code audition.upstream.coalesced} counter
+     */
+    public RequestCoalescingInterceptor(final MeterRegistry meterRegistry) {
+        this.deduplicated = Counter.builder("audition.upstream.coalesced")
+            .description("Upstream calls served by joining an identical in-flight call")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+        final ClientHttpRequestExecution execution) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return execution.execute(request, body);
+        }
+        final String key = request.getURI().normalize().toString();
+        final CompletableFuture<BufferedResponse> call = new CompletableFuture<>();
+        final CompletableFuture<BufferedResponse> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            deduplicated.increment();
+            return await(existing).copy();
+        }
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            final BufferedResponse shared = BufferedResponse.of(response);
+            call.complete(shared);
+            return shared.copy();
+        } catch (final IOException | RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private BufferedResponse await(final CompletableFuture<BufferedResponse> call) throws IOException {
+        try {
+            return call.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for in-flight upstream call");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
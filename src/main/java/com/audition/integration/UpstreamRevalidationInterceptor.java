@@ -0,0 +1,206 @@
+package com.audition.integration;
+
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.RevalidationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Stale-while-revalidate interceptor for upstream GET calls. Successful responses are kept per normalized URI together
+ * with their {@code ETag} and {@code Last-Modified} validators. Within {@code fresh-for} a stored response is served
+ * without contacting upstream; within the following {@code max-stale} window it is still served immediately while a
+ * conditional GET refreshes it in the background. Older entries are revalidated synchronously. A 304 only renews the
+ * stored entry, so unchanged data costs upstream a validator comparison instead of a body.
+ */
+public class UpstreamRevalidationInterceptor implements ClientHttpRequestInterceptor, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UpstreamRevalidationInterceptor.class);
+    private static final String METER = "audition.upstream.revalidation";
+
+    private final AuditionLogger logger = new AuditionLogger();
+    private final ClientHttpRequestFactory refreshRequestFactory;
+    private final long freshForNanos;
+    private final long maxStaleNanos;
+    private final long jitterNanos;
+    private final int refreshQueue;
+    private final Cache<String, Entry> store;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ScheduledThreadPoolExecutor refreshExecutor;
+    private final Map<String, Counter> results = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the interceptor, its response store and its refresh threads.
+     *
+     * @param properties            freshness, size and refresh settings
+     * @param refreshRequestFactory factory for background revalidation requests
+     * @param meterRegistry         registry receiving the {@code audition.upstream.revalidation} counter
+     */
+    public UpstreamRevalidationInterceptor(final RevalidationProperties properties,
+        final ClientHttpRequestFactory refreshRequestFactory, final MeterRegistry meterRegistry) {
+        this.refreshRequestFactory = refreshRequestFactory;
+        this.freshForNanos = properties.getFreshFor().toNanos();
+        this.maxStaleNanos = properties.getMaxStale().toNanos();
+        this.jitterNanos = properties.getJitter().toNanos();
+        this.refreshQueue = properties.getRefreshQueue();
+        this.meterRegistry = meterRegistry;
+        this.store = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxBytes())
+            .weigher((String key, Entry entry) -> key.length() + entry.response().body().length)
+            .build();
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("upstream-revalidation-");
+        threadFactory.setDaemon(true);
+        this.refreshExecutor = new ScheduledThreadPoolExecutor(properties.getRefreshThreads(), threadFactory);
+        this.refreshExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+        final ClientHttpRequestExecution execution) throws IOException {
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return execution.execute(request, body);
+        }
+        final String key = request.getURI().normalize().toString();
+        final Entry entry = store.getIfPresent(key);
+        if (entry != null) {
+            final long age = System.nanoTime() - entry.validatedAt();
+            if (age <= freshForNanos) {
+                count("fresh");
+                return entry.response().copy();
+            }
+            if (age <= freshForNanos + maxStaleNanos) {
+                count("stale");
+                scheduleRefresh(key, request.getURI(), entry);
+                return entry.response().copy();
+            }
+            count("expired");
+            entry.addValidators(request.getHeaders());
+        } else {
+            count("miss");
+        }
+        try (ClientHttpResponse response = execution.execute(request, body)) {
+            return update(key, entry, response).copy();
+        }
+    }
+
+    /**
+     * Stops the refresh threads; pending revalidations are dropped.
+     */
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void scheduleRefresh(final String key, final URI uri, final Entry entry) {
+        if (refreshExecutor.getQueue().size() >= refreshQueue) {
+            count("skipped");
+            return;
+        }
+        if (!refreshing.add(key)) {
+            return;
+        }
+        final long delay = jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos) : 0;
+        try {
+            refreshExecutor.schedule(() -> refresh(key, uri, entry), delay, TimeUnit.NANOSECONDS);
+        } catch (final RuntimeException e) {
+            refreshing.remove(key);
+            count("skipped");
+        }
+    }
+
+    private void refresh(final String key, final URI uri, final Entry entry) {
+        try {
+            final ClientHttpRequest request = refreshRequestFactory.createRequest(uri, HttpMethod.GET);
+            entry.addValidators(request.getHeaders());
+            try (ClientHttpResponse response = request.execute()) {
+                update(key, entry, response);
+            }
+        } catch (final IOException | RuntimeException e) {
+            count("failed");
+            logger.debug(LOG, "Revalidation failed, keeping the stored response: {}", uri + " " + e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Applies an upstream response to the store: 304 renews the entry, 2xx replaces it, 404 removes it and any other
+     * status leaves it as is.
+     *
+     * @return the response to hand to the caller
+     */
+    private BufferedResponse update(final String key, final Entry entry, final ClientHttpResponse response)
+        throws IOException {
+        final HttpStatusCode status = response.getStatusCode();
+        if (entry != null && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+            store.put(key, entry.renewed(response.getHeaders()));
+            count("not_modified");
+            return entry.response();
+        }
+        final BufferedResponse buffered = BufferedResponse.of(response);
+        if (status.is2xxSuccessful()) {
+            store.put(key, Entry.of(buffered));
+            if (entry != null) {
+                count("modified");
+            }
+        } else if (status.value() == HttpStatus.NOT_FOUND.value()) {
+            store.invalidate(key);
+        }
+        return buffered;
+    }
+
+    private void count(final String result) {
+        results.computeIfAbsent(result, r -> Counter.builder(METER)
+            .description("Upstream GET responses by stale-while-revalidate outcome")
+            .tag("result", r)
+            .register(meterRegistry)).increment();
+    }
+
+    /**
+     * Stored response with its validators and the time it was last confirmed by upstream.
+     */
+    private record Entry(BufferedResponse response, String etag, String lastModified, long validatedAt) {
+
+        static Entry of(final BufferedResponse response) {
+            return new Entry(response, response.headers().getETag(),
+                response.headers().getFirst(HttpHeaders.LAST_MODIFIED), System.nanoTime());
+        }
+
+        Entry renewed(final HttpHeaders notModifiedHeaders) {
+            final String renewedEtag = notModifiedHeaders.getETag();
+            return new Entry(response, renewedEtag != null ? renewedEtag : etag, lastModified, System.nanoTime());
+        }
+
+        void addValidators(final HttpHeaders headers) {
+            if (etag != null) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            if (lastModified != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
+}
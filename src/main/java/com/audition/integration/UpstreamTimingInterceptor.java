@@ -0,0 +1,62 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Times the raw upstream HTTP exchange, up to the response status and headers, as {@code audition.upstream.exchange}.
+ * Reading and mapping the body is not included, so it complements the method level {@code audition.upstream.requests}
+ * timer.
+ */
+public class UpstreamTimingInterceptor implements ClientHttpRequestInterceptor {
+
+    public static final String METRIC_NAME = "audition.upstream.exchange";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param meterRegistry registry receiving the exchange timer
+     */
+    public UpstreamTimingInterceptor(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(final HttpRequest request, final byte[] body,
+        final ClientHttpRequestExecution execution) throws IOException {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            final ClientHttpResponse response = execution.execute(request, body);
+            final int status = response.getStatusCode().value();
+            sample.stop(timer(request, Outcome.forStatus(status).name(), String.valueOf(status), "none"));
+            return response;
+        } catch (final IOException | RuntimeException e) {
+            sample.stop(timer(request, Outcome.UNKNOWN.name(), "IO_ERROR", e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    private Timer timer(final HttpRequest request, final String outcome, final String status,
+        final String exception) {
+        return Timer.builder(METRIC_NAME)
+            .description("Upstream HTTP exchanges until the response headers are received")
+            .tag("method", request.getMethod().name())
+            .tag("host", String.valueOf(request.getURI().getHost()))
+            .tag("outcome", outcome)
+            .tag("status", status)
+            .tag("exception", exception)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+    }
+}
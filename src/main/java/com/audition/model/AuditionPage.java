@@ -0,0 +1,26 @@
+package com.audition.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuditionPage<T> {
+
+    private List<T> items;
+    private int page;
+    private int size;
+    private int totalCount;
+
+    public int getTotalPages() {
+        return size == 0 ? 1 : Math.max(1, (totalCount + size - 1) / size);
+    }
+
+}
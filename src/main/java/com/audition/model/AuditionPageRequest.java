@@ -0,0 +1,25 @@
+package com.audition.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuditionPageRequest {
+
+    private Integer page;
+    private Integer size;
+    private List<String> fields;
+
+    public boolean isPaged() {
+        return page != null || size != null;
+    }
+
+}
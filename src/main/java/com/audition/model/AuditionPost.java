@@ -2,15 +2,16 @@ package com.audition.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Getter
-@Setter
+/**
+ * An upstream post. Instances are immutable, since they are shared through the caches and the local replica.
+ */
+@Value
 @AllArgsConstructor
-@NoArgsConstructor
 @Builder
+@Jacksonized
 public class AuditionPost {
 
     private int userId;
@@ -0,0 +1,22 @@
+package com.audition.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuditionPostBatchEntry {
+
+    private String id;
+    private int status;
+    private AuditionPost post;
+    private String title;
+    private String detail;
+
+}
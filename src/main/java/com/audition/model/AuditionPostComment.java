@@ -2,15 +2,17 @@ package com.audition.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Getter
-@Setter
+/**
+ * An upstream comment of a post. Instances are immutable, since they are shared through the caches and the local
+ * replica.
+ */
+@Value
 @AllArgsConstructor
-@NoArgsConstructor
 @Builder
+@Jacksonized
 public class AuditionPostComment {
 
     private int postId;
@@ -0,0 +1,21 @@
+package com.audition.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AuditionPostWithComments {
+
+    private AuditionPost post;
+    private List<AuditionPostComment> comments;
+    private boolean commentsComplete;
+
+}
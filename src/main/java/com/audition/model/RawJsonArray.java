@@ -0,0 +1,15 @@
+package com.audition.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An upstream JSON array kept as the bytes upstream sent, together with its number of elements.
+ */
+@Getter
+@AllArgsConstructor
+public class RawJsonArray {
+
+    private final byte[] content;
+    private final int size;
+}
@@ -0,0 +1,83 @@
+package com.audition.model.json;
+
+import com.audition.model.AuditionPost;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Reads and writes {@link AuditionPost} directly from and to the token stream, without reflection or a builder.
+ */
+final class AuditionPostCodec {
+
+    private static final SerializableString USER_ID = new SerializedString("userId");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString BODY = new SerializedString("body");
+
+    private AuditionPostCodec() {
+    }
+
+    /**
+     * Binds a post field by field; unknown fields are skipped.
+     */
+    static final class Deserializer extends StdDeserializer<AuditionPost> {
+
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(AuditionPost.class);
+        }
+
+        @Override
+        public AuditionPost deserialize(final JsonParser parser, final DeserializationContext context)
+            throws IOException {
+            int userId = 0;
+            int id = 0;
+            String title = null;
+            String body = null;
+            for (String name = CodecSupport.firstFieldName(parser, context, AuditionPost.class); name != null;
+                name = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (name) {
+                    case "userId" -> userId = CodecSupport.readInt(parser, context);
+                    case "id" -> id = CodecSupport.readInt(parser, context);
+                    case "title" -> title = CodecSupport.readString(parser, context);
+                    case "body" -> body = CodecSupport.readString(parser, context);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new AuditionPost(userId, id, title, body);
+        }
+    }
+
+    /**
+     * Writes a post in declaration order, following the mapper's inclusion of null and empty values.
+     */
+    static final class Serializer extends StdSerializer<AuditionPost> {
+
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(AuditionPost.class);
+        }
+
+        @Override
+        public void serialize(final AuditionPost value, final JsonGenerator generator,
+            final SerializerProvider provider) throws IOException {
+            final boolean skipEmpty = CodecSupport.skipEmpty(provider);
+            generator.writeStartObject(value);
+            CodecSupport.writeInt(generator, USER_ID, value.getUserId());
+            CodecSupport.writeInt(generator, ID, value.getId());
+            CodecSupport.writeString(generator, provider, TITLE, value.getTitle(), skipEmpty);
+            CodecSupport.writeString(generator, provider, BODY, value.getBody(), skipEmpty);
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.audition.model.json;
+
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Reads and writes {@link AuditionPostComment} directly from and to the token stream, without reflection or a
+ * builder.
+ */
+final class AuditionPostCommentCodec {
+
+    private static final SerializableString POST_ID = new SerializedString("postId");
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString BODY = new SerializedString("body");
+
+    private AuditionPostCommentCodec() {
+    }
+
+    /**
+     * Binds a comment field by field; unknown fields are skipped.
+     */
+    static final class Deserializer extends StdDeserializer<AuditionPostComment> {
+
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(AuditionPostComment.class);
+        }
+
+        @Override
+        public AuditionPostComment deserialize(final JsonParser parser, final DeserializationContext context)
+            throws IOException {
+            int postId = 0;
+            int id = 0;
+            String name = null;
+            String email = null;
+            String body = null;
+            for (String field = CodecSupport.firstFieldName(parser, context, AuditionPostComment.class);
+                field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "postId" -> postId = CodecSupport.readInt(parser, context);
+                    case "id" -> id = CodecSupport.readInt(parser, context);
+                    case "name" -> name = CodecSupport.readString(parser, context);
+                    case "email" -> email = CodecSupport.readString(parser, context);
+                    case "body" -> body = CodecSupport.readString(parser, context);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new AuditionPostComment(postId, id, name, email, body);
+        }
+    }
+
+    /**
+     * Writes a comment in declaration order, following the mapper's inclusion of null and empty values.
+     */
+    static final class Serializer extends StdSerializer<AuditionPostComment> {
+
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(AuditionPostComment.class);
+        }
+
+        @Override
+        public void serialize(final AuditionPostComment value, final JsonGenerator generator,
+            final SerializerProvider provider) throws IOException {
+            final boolean skipEmpty = CodecSupport.skipEmpty(provider);
+            generator.writeStartObject(value);
+            CodecSupport.writeInt(generator, POST_ID, value.getPostId());
+            CodecSupport.writeInt(generator, ID, value.getId());
+            CodecSupport.writeString(generator, provider, NAME, value.getName(), skipEmpty);
+            CodecSupport.writeString(generator, provider, EMAIL, value.getEmail(), skipEmpty);
+            CodecSupport.writeString(generator, provider, BODY, value.getBody(), skipEmpty);
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.audition.model.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+
+/**
+ * Token level helpers shared by the model codecs. Values of an unexpected shape are handed to the regular Jackson
+ * deserializers, so coercion and error reporting stay the same as for reflective binding.
+ */
+final class CodecSupport {
+
+    private CodecSupport() {
+    }
+
+    /**
+     * Returns the name of the first field of the object the parser is positioned at.
+     *
+     * @param parser  parser positioned at {@code START_OBJECT} or at the first {@code FIELD_NAME}
+     * @param context deserialization context
+     * @param type    type being read, for the error message
+     * @return the field name, or null for an empty object
+     * @throws IOException if the parser is not positioned at an object
+     */
+    static String firstFieldName(final JsonParser parser, final DeserializationContext context, final Class<?> type)
+        throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            return parser.nextFieldName();
+        }
+        if (parser.currentToken() == JsonToken.FIELD_NAME) {
+            return parser.currentName();
+        }
+        throw context.wrongTokenException(parser, type, JsonToken.START_OBJECT, null);
+    }
+
+    static int readInt(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        final Integer value = context.readValue(parser, Integer.TYPE);
+        return value != null ? value : 0;
+    }
+
+    static String readString(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, String.class);
+    }
+
+    /**
+     * Returns whether empty strings are left out, which is the case when the mapper includes only non-empty values.
+     *
+     * @param provider serializer provider of the current call
+     * @return true for {@code NON_EMPTY} and {@code NON_DEFAULT} inclusion
+     */
+    static boolean skipEmpty(final SerializerProvider provider) {
+        final Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+        return inclusion == Include.NON_EMPTY || inclusion == Include.NON_DEFAULT;
+    }
+
+    /**
+     * Writes a string field, leaving out null values unless the mapper includes them and empty values when
+     * {@code skipEmpty} is set.
+     */
+    static void writeString(final JsonGenerator generator, final SerializerProvider provider,
+        final SerializableString name, final String value, final boolean skipEmpty) throws IOException {
+        if (value == null) {
+            final Include inclusion = provider.getConfig().getDefaultPropertyInclusion().getValueInclusion();
+            if (inclusion == Include.ALWAYS || inclusion == Include.USE_DEFAULTS) {
+                generator.writeFieldName(name);
+                generator.writeNull();
+            }
+            return;
+        }
+        if (skipEmpty && value.isEmpty()) {
+            return;
+        }
+        generator.writeFieldName(name);
+        generator.writeString(value);
+    }
+
+    static void writeInt(final JsonGenerator generator, final SerializableString name, final int value)
+        throws IOException {
+        generator.writeFieldName(name);
+        generator.writeNumber(value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.audition.model.json;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Registers the hand-written codecs of {@link AuditionPost} and {@link AuditionPostComment}. With the module
+ * registered, every ObjectMapper path binding these types (message converters, streamed reads, NDJSON writes and
+ * field selection) uses the codecs instead of reflective bean access.
+ */
+public class ModelCodecModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the module.
+     */
+    public ModelCodecModule() {
+        super("audition-model-codecs");
+        addDeserializer(AuditionPost.class, new AuditionPostCodec.Deserializer());
+        addSerializer(AuditionPost.class, new AuditionPostCodec.Serializer());
+        addDeserializer(AuditionPostComment.class, new AuditionPostCommentCodec.Deserializer());
+        addSerializer(AuditionPostComment.class, new AuditionPostCommentCodec.Serializer());
+    }
+}
@@ -1,13 +1,45 @@
 package com.audition.service;
 
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.AggregationProperties;
+import com.audition.configuration.AggregationProperties.CommentsFailure;
+import com.audition.configuration.BatchLookupProperties;
+import com.audition.configuration.PaginationProperties;
 import com.audition.integration.AuditionCommentIntegrationClient;
 import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPage;
+import com.audition.model.AuditionPageRequest;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
 import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import com.audition.model.RawJsonArray;
+import com.audition.service.replica.LocalReplica;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,14 +58,58 @@ public class AuditionService {
     @Autowired
     private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
 
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor upstreamExecutor;
+
+    @Autowired
+    private AggregationProperties aggregationProperties;
+
+    @Autowired
+    private BatchLookupProperties batchLookupProperties;
+
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LocalReplica localReplica;
+
+    private final Map<Class<?>, Set<String>> propertyNames = new ConcurrentHashMap<>();
+
     /**
-     * Retrieves a list of audition posts based on the provided query parameters.
+     * Retrieves a list of audition posts based on the provided query parameters, from the local replica when it can
+     * answer the query.
      *
      * @param queryParams A map of query parameters where the key is the parameter name.
      * @return List of AuditionPost.
      */
     public List<AuditionPost> getPosts(final Map<String, Object> queryParams) {
-        return auditionPostIntegrationClient.getPosts(queryParams);
+        return localReplica.findPosts(queryParams)
+            .orElseGet(() -> auditionPostIntegrationClient.getPosts(queryParams));
+    }
+
+    /**
+     * Retrieves one page of the audition posts matching the query parameters, optionally reduced to the requested
+     * fields.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @param pageRequest page, size and fields requested by the client
+     * @return AuditionPage holding AuditionPost or, when fields are requested, the projected posts
+     */
+    public AuditionPage<Object> getPosts(final Map<String, Object> queryParams, final AuditionPageRequest pageRequest) {
+        return page(getPosts(queryParams), AuditionPost.class, pageRequest);
+    }
+
+    /**
+     * Retrieves all audition posts as the upstream JSON bytes.
+     *
+     * @return RawJsonArray of all posts
+     */
+    public RawJsonArray getPostsJson() {
+        return auditionPostIntegrationClient.getPostsJson();
     }
 
     /**
@@ -57,12 +133,281 @@ public class AuditionService {
     }
 
     /**
-     * Retrieves a list of audition posts comments based on the provided query parameters.
+     * Retrieves a list of audition posts comments based on the provided query parameters, from the local replica when
+     * it can answer the query.
      *
      * @param filters A map of query parameters where the key is the parameter name.
      * @return List of AuditionPostComment.
      */
     public List<AuditionPostComment> getComments(final Map<String, Object> filters) {
-        return auditionCommentIntegrationClient.getComments(filters);
+        return localReplica.findComments(filters)
+            .orElseGet(() -> auditionCommentIntegrationClient.getComments(filters));
+    }
+
+    /**
+     * Retrieves all audition post comments as the upstream JSON bytes.
+     *
+     * @return RawJsonArray of all comments
+     */
+    public RawJsonArray getCommentsJson() {
+        return auditionCommentIntegrationClient.getCommentsJson();
+    }
+
+    /**
+     * Retrieves one page of the audition post comments matching the filters, optionally reduced to the requested
+     * fields.
+     *
+     * @param filters     A map of query parameters where the key is the parameter name.
+     * @param pageRequest page, size and fields requested by the client
+     * @return AuditionPage holding AuditionPostComment or, when fields are requested, the projected comments
+     */
+    public AuditionPage<Object> getComments(final Map<String, Object> filters, final AuditionPageRequest pageRequest) {
+        return page(getComments(filters), AuditionPostComment.class, pageRequest);
+    }
+
+    /**
+     * Streams audition posts matching the query parameters to the consumer as they are read from upstream.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @param consumer    receives each AuditionPost
+     * @return number of posts streamed
+     */
+    public int streamPosts(final Map<String, Object> queryParams, final Consumer<? super AuditionPost> consumer) {
+        return auditionPostIntegrationClient.streamPosts(queryParams, consumer);
+    }
+
+    /**
+     * Streams audition post comments matching the filters to the consumer as they are read from upstream.
+     *
+     * @param filters  A map of query parameters where the key is the parameter name.
+     * @param consumer receives each AuditionPostComment
+     * @return number of comments streamed
+     */
+    public int streamComments(final Map<String, Object> filters,
+        final Consumer<? super AuditionPostComment> consumer) {
+        return auditionCommentIntegrationClient.streamComments(filters, consumer);
+    }
+
+    /**
+     * Retrieves a post together with its comments. Both upstream calls are made concurrently on the bounded
+     * application task executor, so the latency is roughly the slower of the two instead of their sum. A post without
+     * comments yields an empty list; other comment failures either fail the request or are omitted, depending on
+     * {@code application.aggregation.comments-failure}. When the executor rejects a call, that side fails with a 503
+     * like any other upstream failure.
+     *
+     * @param postId : Integer
+     * @return AuditionPostWithComments
+     */
+    public AuditionPostWithComments getPostWithComments(final Integer postId) {
+        final long timeout = aggregationProperties.getTimeout().toMillis();
+        final CompletableFuture<AuditionPost> post =
+            supplyAsync(() -> auditionPostIntegrationClient.getPostById(String.valueOf(postId)))
+            .orTimeout(timeout, TimeUnit.MILLISECONDS);
+        final CompletableFuture<AuditionPostWithComments> comments =
+            supplyAsync(() -> auditionCommentIntegrationClient.getCommentsForPost(postId))
+            .orTimeout(timeout, TimeUnit.MILLISECONDS)
+            .handle((list, error) -> error == null
+                ? AuditionPostWithComments.builder().comments(list).commentsComplete(true).build()
+                : commentsFallback(unwrap(error)));
+
+        final AuditionPost resolvedPost = join(post);
+        final AuditionPostWithComments result = join(comments);
+        result.setPost(resolvedPost);
+        return result;
+    }
+
+    /**
+     * Retrieves many posts by id in one call. Duplicate ids are looked up once and the result keeps the order in which
+     * the ids were first requested. Small batches are looked up per id (served from the post cache where possible) with
+     * bounded parallelism; larger batches fetch the full post list once and filter it locally. Every id gets its own
+     * entry, so one failing id does not fail the batch.
+     *
+     * @param ids the requested post ids
+     * @return one AuditionPostBatchEntry per distinct id
+     */
+    public List<AuditionPostBatchEntry> getPostsByIds(final List<String> ids) {
+        final Set<String> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > batchLookupProperties.getMaxIds()) {
+            throw SystemException.expected(
+                "At most " + batchLookupProperties.getMaxIds() + " ids can be requested at once",
+                HttpStatus.BAD_REQUEST.value());
+        }
+        final Map<String, AuditionPostBatchEntry> entries = uniqueIds.size() > batchLookupProperties.getListThreshold()
+            ? lookupInPostList(uniqueIds)
+            : lookupIndividually(uniqueIds);
+        return uniqueIds.stream().map(entries::get).toList();
+    }
+
+    private Map<String, AuditionPostBatchEntry> lookupIndividually(final Set<String> ids) {
+        final Semaphore permits = new Semaphore(batchLookupProperties.getParallelism());
+        final Map<String, CompletableFuture<AuditionPostBatchEntry>> lookups = new LinkedHashMap<>();
+        for (final String id : ids) {
+            permits.acquireUninterruptibly();
+            try {
+                lookups.put(id, CompletableFuture.supplyAsync(() -> lookupPost(id), upstreamExecutor)
+                    .whenComplete((entry, error) -> permits.release()));
+            } catch (final RejectedExecutionException e) {
+                permits.release();
+                lookups.put(id, CompletableFuture.completedFuture(errorEntry(id, new SystemException(
+                    "Too many concurrent lookups", "Service Unavailable", HttpStatus.SERVICE_UNAVAILABLE.value()))));
+            }
+        }
+        final Map<String, AuditionPostBatchEntry> entries = new LinkedHashMap<>();
+        lookups.forEach((id, lookup) -> entries.put(id, lookup.join()));
+        return entries;
+    }
+
+    private AuditionPostBatchEntry lookupPost(final String id) {
+        if (!isNumeric(id)) {
+            return errorEntry(id, notNumeric());
+        }
+        try {
+            final AuditionPost post = auditionPostIntegrationClient.getPostById(id);
+            return post != null ? postEntry(id, post) : errorEntry(id, postNotFound(id));
+        } catch (final RuntimeException e) {
+            // upstream 5xx and I/O errors are not mapped by the client, they must not fail the other ids either
+            return errorEntry(id, lookupFailure(e));
+        }
+    }
+
+    private Map<String, AuditionPostBatchEntry> lookupInPostList(final Set<String> ids) {
+        final Map<String, AuditionPostBatchEntry> entries = new LinkedHashMap<>();
+        final Map<String, AuditionPost> postsById;
+        try {
+            postsById = getPosts(new ConcurrentHashMap<>()).stream()
+                .collect(Collectors.toMap(post -> String.valueOf(post.getId()), Function.identity(), (a, b) -> a));
+        } catch (final RuntimeException e) {
+            final SystemException failure = lookupFailure(e);
+            ids.forEach(id -> entries.put(id, errorEntry(id, failure)));
+            return entries;
+        }
+        for (final String id : ids) {
+            if (isNumeric(id)) {
+                final AuditionPost post = postsById.get(String.valueOf(Long.parseLong(id)));
+                entries.put(id, post != null ? postEntry(id, post) : errorEntry(id, postNotFound(id)));
+            } else {
+                entries.put(id, errorEntry(id, notNumeric()));
+            }
+        }
+        return entries;
+    }
+
+    private static boolean isNumeric(final String id) {
+        return !id.isEmpty() && id.length() <= 18 && id.chars().allMatch(Character::isDigit);
+    }
+
+    private static SystemException notNumeric() {
+        return SystemException.expected("postId must be numeric", HttpStatus.BAD_REQUEST.value());
+    }
+
+    private static SystemException postNotFound(final String id) {
+        return SystemException.expected("Cannot find a Post with given id " + id, "Resource Not Found",
+            HttpStatus.NOT_FOUND.value());
+    }
+
+    /**
+     * Maps the failure of a single batch lookup to the error of its entry: mapped errors keep their status, anything
+     * else (upstream 5xx, I/O errors) is reported as a 502.
+     */
+    static SystemException lookupFailure(final Throwable error) {
+        if (error instanceof SystemException systemException) {
+            return systemException;
+        }
+        return new SystemException(error.getMessage(), "Bad Gateway", HttpStatus.BAD_GATEWAY.value(), error);
+    }
+
+    private static AuditionPostBatchEntry postEntry(final String id, final AuditionPost post) {
+        return AuditionPostBatchEntry.builder().id(id).status(HttpStatus.OK.value()).post(post).build();
+    }
+
+    private static AuditionPostBatchEntry errorEntry(final String id, final SystemException e) {
+        final Integer status = e.getStatusCode();
+        return AuditionPostBatchEntry.builder()
+            .id(id)
+            .status(status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR.value())
+            .title(e.getTitle())
+            .detail(e.getMessage())
+            .build();
+    }
+
+    private AuditionPostWithComments commentsFallback(final Throwable error) {
+        if (error instanceof SystemException systemException
+            && Integer.valueOf(HttpStatus.NOT_FOUND.value()).equals(systemException.getStatusCode())) {
+            return AuditionPostWithComments.builder().comments(List.of()).commentsComplete(true).build();
+        }
+        if (aggregationProperties.getCommentsFailure() == CommentsFailure.FAIL) {
+            throw asRuntimeException(error);
+        }
+        return AuditionPostWithComments.builder().comments(List.of()).commentsComplete(false).build();
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, upstreamExecutor);
+        } catch (final RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new SystemException("Too many concurrent upstream calls",
+                "Service Unavailable", HttpStatus.SERVICE_UNAVAILABLE.value(), e));
+        }
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw asRuntimeException(unwrap(e));
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static RuntimeException asRuntimeException(final Throwable error) {
+        if (error instanceof TimeoutException) {
+            return new SystemException("Upstream did not respond in time", "Gateway Timeout",
+                HttpStatus.GATEWAY_TIMEOUT.value(), error);
+        }
+        if (error instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new SystemException(error.getMessage(), SystemException.DEFAULT_TITLE, error);
+    }
+
+    private AuditionPage<Object> page(final List<?> items, final Class<?> type, final AuditionPageRequest pageRequest) {
+        final int total = items.size();
+        if (!pageRequest.isPaged()) {
+            return new AuditionPage<>(project(items, type, pageRequest.getFields()), 1, total, total);
+        }
+        final int size = Math.min(
+            Optional.ofNullable(pageRequest.getSize()).orElse(paginationProperties.getDefaultSize()),
+            paginationProperties.getMaxSize());
+        final int page = Optional.ofNullable(pageRequest.getPage()).orElse(1);
+        final int from = (int) Math.min((long) (page - 1) * size, total);
+        final int to = Math.min(from + size, total);
+        return new AuditionPage<>(project(items.subList(from, to), type, pageRequest.getFields()), page, size, total);
+    }
+
+    private List<Object> project(final List<?> items, final Class<?> type, final List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return List.<Object>copyOf(items);
+        }
+        final Set<String> allowed = propertyNames.computeIfAbsent(type, this::findPropertyNames);
+        final Set<String> requested = fields.stream().map(String::trim).filter(field -> !field.isEmpty())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!allowed.containsAll(requested)) {
+            requested.removeAll(allowed);
+            throw SystemException.expected("Unknown fields " + requested + ", allowed fields are " + allowed,
+                HttpStatus.BAD_REQUEST.value());
+        }
+        return items.stream().<Object>map(item -> {
+            final ObjectNode node = objectMapper.valueToTree(item);
+            return node.retain(requested);
+        }).toList();
+    }
+
+    private Set<String> findPropertyNames(final Class<?> type) {
+        return objectMapper.getSerializationConfig().introspect(objectMapper.constructType(type)).findProperties()
+            .stream().map(BeanPropertyDefinition::getName)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 }
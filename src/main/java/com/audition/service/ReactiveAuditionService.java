@@ -0,0 +1,155 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.AggregationProperties;
+import com.audition.configuration.AggregationProperties.CommentsFailure;
+import com.audition.configuration.BatchLookupProperties;
+import com.audition.integration.ReactiveAuditionCommentIntegrationClient;
+import com.audition.integration.ReactiveAuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
+import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link AuditionService}, used when {@code application.integration.mode} is
+ * {@code reactive}.
+ */
+@Service
+@NoArgsConstructor
+@ConditionalOnProperty(prefix = "application.integration", name = "mode", havingValue = "reactive")
+public class ReactiveAuditionService {
+
+    @Autowired
+    private ReactiveAuditionPostIntegrationClient reactivePostIntegrationClient;
+
+    @Autowired
+    private ReactiveAuditionCommentIntegrationClient reactiveCommentIntegrationClient;
+
+    @Autowired
+    private AggregationProperties aggregationProperties;
+
+    @Autowired
+    private BatchLookupProperties batchLookupProperties;
+
+    /**
+     * Retrieves audition posts based on the provided query parameters.
+     *
+     * @param queryParams A map of query parameters where the key is the parameter name.
+     * @return Flux of AuditionPost.
+     */
+    public Flux<AuditionPost> getPosts(final Map<String, Object> queryParams) {
+        return reactivePostIntegrationClient.getPosts(queryParams);
+    }
+
+    /**
+     * Retrieves an audition post based on the postId.
+     *
+     * @param postId : String
+     * @return Mono of AuditionPost
+     */
+    public Mono<AuditionPost> getPostById(final String postId) {
+        return reactivePostIntegrationClient.getPostById(postId);
+    }
+
+    /**
+     * Retrieves the comments for a specific audition post.
+     *
+     * @param postId : Integer
+     * @return Flux of AuditionPostComment
+     */
+    public Flux<AuditionPostComment> getCommentsForPost(final Integer postId) {
+        return reactiveCommentIntegrationClient.getCommentsForPost(postId);
+    }
+
+    /**
+     * Retrieves audition post comments based on the provided query parameters.
+     *
+     * @param filters A map of query parameters where the key is the parameter name.
+     * @return Flux of AuditionPostComment.
+     */
+    public Flux<AuditionPostComment> getComments(final Map<String, Object> filters) {
+        return reactiveCommentIntegrationClient.getComments(filters);
+    }
+
+    /**
+     * Retrieves a post together with its comments by zipping both upstream calls, which run concurrently.
+     *
+     * @param postId : Integer
+     * @return Mono of AuditionPostWithComments
+     */
+    public Mono<AuditionPostWithComments> getPostWithComments(final Integer postId) {
+        final Mono<AuditionPostWithComments> comments = reactiveCommentIntegrationClient.getCommentsForPost(postId)
+            .collectList()
+            .map(list -> AuditionPostWithComments.builder().comments(list).commentsComplete(true).build())
+            .onErrorResume(this::commentsFallback);
+        return Mono.zip(reactivePostIntegrationClient.getPostById(String.valueOf(postId)), comments)
+            .map(tuple -> {
+                final AuditionPostWithComments result = tuple.getT2();
+                result.setPost(tuple.getT1());
+                return result;
+            })
+            .timeout(aggregationProperties.getTimeout())
+            .onErrorMap(TimeoutException.class, e -> new SystemException("Upstream did not respond in time",
+                "Gateway Timeout", HttpStatus.GATEWAY_TIMEOUT.value(), e));
+    }
+
+    /**
+     * Retrieves many posts by id with bounded concurrency. Duplicate ids are looked up once, results keep the request
+     * order and failures are reported per id.
+     *
+     * @param ids the requested post ids
+     * @return Flux of AuditionPostBatchEntry, one per distinct id
+     */
+    public Flux<AuditionPostBatchEntry> getPostsByIds(final List<String> ids) {
+        final LinkedHashSet<String> uniqueIds = new LinkedHashSet<>(ids);
+        if (uniqueIds.size() > batchLookupProperties.getMaxIds()) {
+            return Flux.error(SystemException.expected("At most " + batchLookupProperties.getMaxIds()
+                + " ids can be requested at once", HttpStatus.BAD_REQUEST.value()));
+        }
+        return Flux.fromIterable(uniqueIds)
+            .flatMapSequential(this::lookupPost, batchLookupProperties.getParallelism());
+    }
+
+    private Mono<AuditionPostBatchEntry> lookupPost(final String id) {
+        if (id.isEmpty() || !id.chars().allMatch(Character::isDigit)) {
+            return Mono.just(AuditionPostBatchEntry.builder().id(id).status(HttpStatus.BAD_REQUEST.value())
+                .title(SystemException.DEFAULT_TITLE).detail("postId must be numeric").build());
+        }
+        return reactivePostIntegrationClient.getPostById(id)
+            .map(post -> AuditionPostBatchEntry.builder().id(id).status(HttpStatus.OK.value()).post(post).build())
+            .onErrorResume(error -> {
+                // upstream 5xx and I/O errors are not mapped by the client, they must not fail the other ids either
+                final SystemException failure = AuditionService.lookupFailure(error);
+                return Mono.just(AuditionPostBatchEntry.builder()
+                    .id(id)
+                    .status(failure.getStatusCode() != null ? failure.getStatusCode()
+                        : HttpStatus.INTERNAL_SERVER_ERROR.value())
+                    .title(failure.getTitle())
+                    .detail(failure.getMessage())
+                    .build());
+            });
+    }
+
+    private Mono<AuditionPostWithComments> commentsFallback(final Throwable error) {
+        if (error instanceof SystemException systemException
+            && Integer.valueOf(HttpStatus.NOT_FOUND.value()).equals(systemException.getStatusCode())) {
+            return Mono.just(AuditionPostWithComments.builder().comments(List.of()).commentsComplete(true).build());
+        }
+        if (aggregationProperties.getCommentsFailure() == CommentsFailure.FAIL) {
+            return Mono.error(error);
+        }
+        return Mono.just(AuditionPostWithComments.builder().comments(List.of()).commentsComplete(false).build());
+    }
+}
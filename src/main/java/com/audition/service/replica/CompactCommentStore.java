@@ -0,0 +1,190 @@
+package com.audition.service.replica;
+
+import com.audition.model.AuditionPostComment;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Columnar, immutable store of comments. {@code postId} and {@code id} are held in {@code int[]} columns and the text
+ * fields ({@code name}, {@code email}, {@code body}) are packed as UTF-8 into one shared {@code byte[]}, addressed by an
+ * {@code int[]} of field end offsets. A row therefore costs two ints, three offsets and its UTF-8 bytes, instead of a
+ * comment object plus three {@code String} objects with their own {@code byte[]}, which is roughly 200 bytes of
+ * headers, references and padding per comment. {@link AuditionPostComment} objects are only created when a row is read.
+ */
+final class CompactCommentStore {
+
+    private static final int FIELDS = 3;
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int BODY = 2;
+
+    private final int[] postIds;
+    private final int[] ids;
+    private final int[] ends;
+    private final BitSet nulls;
+    private final byte[] text;
+
+    private CompactCommentStore(final int[] postIds, final int[] ids, final int[] ends, final BitSet nulls,
+        final byte[] text) {
+        this.postIds = postIds;
+        this.ids = ids;
+        this.ends = ends;
+        this.nulls = nulls;
+        this.text = text;
+    }
+
+    /**
+     * Copies the comments into a new store. The text buffer is sized exactly up front, so building the store
+     * allocates little more than the store itself.
+     *
+     * @param comments the comments in row order
+     * @return the store
+     */
+    static CompactCommentStore of(final List<AuditionPostComment> comments) {
+        final int size = comments.size();
+        final int[] postIds = new int[size];
+        final int[] ids = new int[size];
+        final int[] ends = new int[size * FIELDS];
+        final BitSet nulls = new BitSet();
+        int length = 0;
+        for (int row = 0; row < size; row++) {
+            final AuditionPostComment comment = comments.get(row);
+            postIds[row] = comment.getPostId();
+            ids[row] = comment.getId();
+            length += utf8Length(comment.getName()) + utf8Length(comment.getEmail()) + utf8Length(comment.getBody());
+        }
+        final byte[] text = new byte[length];
+        int position = 0;
+        for (int row = 0; row < size; row++) {
+            final AuditionPostComment comment = comments.get(row);
+            position = put(comment.getName(), row * FIELDS + NAME, text, position, ends, nulls);
+            position = put(comment.getEmail(), row * FIELDS + EMAIL, text, position, ends, nulls);
+            position = put(comment.getBody(), row * FIELDS + BODY, text, position, ends, nulls);
+        }
+        return new CompactCommentStore(postIds, ids, ends, nulls, text);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the {@code postId} column, indexed by row. The array is shared and must not be modified.
+     *
+     * @return the post ids
+     */
+    int[] postIds() {
+        return postIds;
+    }
+
+    /**
+     * Materializes one row.
+     *
+     * @param row the row
+     * @return a new comment holding the row's values
+     */
+    AuditionPostComment get(final int row) {
+        return AuditionPostComment.builder()
+            .postId(postIds[row])
+            .id(ids[row])
+            .name(text(row * FIELDS + NAME))
+            .email(text(row * FIELDS + EMAIL))
+            .body(text(row * FIELDS + BODY))
+            .build();
+    }
+
+    /**
+     * Returns the size of the store's arrays, excluding array headers.
+     *
+     * @return the payload size in bytes
+     */
+    long payloadBytes() {
+        return (long) Integer.BYTES * (postIds.length + ids.length + ends.length)
+            + (nulls.length() + Byte.SIZE - 1) / Byte.SIZE + text.length;
+    }
+
+    private String text(final int field) {
+        if (nulls.get(field)) {
+            return null;
+        }
+        final int start = field == 0 ? 0 : ends[field - 1];
+        return new String(text, start, ends[field] - start, StandardCharsets.UTF_8);
+    }
+
+    private static int put(final String value, final int field, final byte[] text, final int position,
+        final int[] ends, final BitSet nulls) {
+        if (value == null) {
+            nulls.set(field);
+            ends[field] = position;
+            return position;
+        }
+        final int end = encode(value, text, position);
+        ends[field] = end;
+        return end;
+    }
+
+    /**
+     * Returns the UTF-8 length of the value as produced by {@link #encode}.
+     */
+    private static int utf8Length(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = 0;
+        int index = 0;
+        while (index < value.length()) {
+            final int codePoint = value.codePointAt(index);
+            index += Character.charCount(codePoint);
+            length += encodedLength(codePoint);
+        }
+        return length;
+    }
+
+    /**
+     * Writes the value as UTF-8 without an intermediate array, replacing unpaired surrogates with '?' like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    private static int encode(final String value, final byte[] out, final int start) {
+        int position = start;
+        int index = 0;
+        while (index < value.length()) {
+            final int codePoint = value.codePointAt(index);
+            index += Character.charCount(codePoint);
+            switch (encodedLength(codePoint)) {
+                case 1 -> out[position] = (byte) (isUnpairedSurrogate(codePoint) ? '?' : codePoint);
+                case 2 -> {
+                    out[position] = (byte) (0xC0 | codePoint >> 6);
+                    out[position + 1] = (byte) (0x80 | codePoint & 0x3F);
+                }
+                case 3 -> {
+                    out[position] = (byte) (0xE0 | codePoint >> 12);
+                    out[position + 1] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    out[position + 2] = (byte) (0x80 | codePoint & 0x3F);
+                }
+                default -> {
+                    out[position] = (byte) (0xF0 | codePoint >> 18);
+                    out[position + 1] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                    out[position + 2] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                    out[position + 3] = (byte) (0x80 | codePoint & 0x3F);
+                }
+            }
+            position += encodedLength(codePoint);
+        }
+        return position;
+    }
+
+    private static int encodedLength(final int codePoint) {
+        if (codePoint < 0x80 || isUnpairedSurrogate(codePoint)) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT ? 3 : 4;
+    }
+
+    private static boolean isUnpairedSurrogate(final int codePoint) {
+        return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
+    }
+}
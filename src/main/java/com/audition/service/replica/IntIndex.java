@@ -0,0 +1,75 @@
+package com.audition.service.replica;
+
+import java.util.Arrays;
+
+/**
+ * Immutable int to rows index in compressed sparse row layout: the distinct keys are sorted in one {@code int[]}, and
+ * the rows of the key at position {@code k} are {@code rows[offsets[k]]} up to {@code rows[offsets[k + 1]]}, in
+ * ascending row order. Keys and rows stay primitive, so a lookup is a binary search without boxing and the whole index
+ * costs about three ints per row.
+ */
+final class IntIndex {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int[] keys;
+    private final int[] offsets;
+    private final int[] rows;
+
+    private IntIndex(final int[] keys, final int[] offsets, final int[] rows) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.rows = rows;
+    }
+
+    /**
+     * Builds the index of a column.
+     *
+     * @param column the key of every row; row {@code i} has key {@code column[i]}
+     * @return the index
+     */
+    static IntIndex of(final int[] column) {
+        final int[] sorted = column.clone();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        final int[] keys = Arrays.copyOf(sorted, distinct);
+        final int[] offsets = new int[distinct + 1];
+        for (final int key : column) {
+            offsets[Arrays.binarySearch(keys, key) + 1]++;
+        }
+        for (int k = 0; k < distinct; k++) {
+            offsets[k + 1] += offsets[k];
+        }
+        final int[] next = Arrays.copyOf(offsets, distinct);
+        final int[] rows = new int[column.length];
+        for (int row = 0; row < column.length; row++) {
+            rows[next[Arrays.binarySearch(keys, column[row])]++] = row;
+        }
+        return new IntIndex(keys, offsets, rows);
+    }
+
+    /**
+     * Returns the rows having the key.
+     *
+     * @param key the key to look up
+     * @return the rows in ascending order, empty if the key is unknown
+     */
+    int[] rows(final int key) {
+        final int k = Arrays.binarySearch(keys, key);
+        return k < 0 ? NO_ROWS : Arrays.copyOfRange(rows, offsets[k], offsets[k + 1]);
+    }
+
+    /**
+     * Returns the number of distinct keys.
+     *
+     * @return the number of keys
+     */
+    int keyCount() {
+        return keys.length;
+    }
+}
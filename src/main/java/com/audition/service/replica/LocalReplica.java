@@ -0,0 +1,180 @@
+package com.audition.service.replica;
+
+import com.audition.common.exception.SystemException;
+import com.audition.common.logging.AuditionLogger;
+import com.audition.configuration.ReplicaProperties;
+import com.audition.integration.AuditionCommentIntegrationClient;
+import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional local replica of the full post and comment sets, enabled with {@code application.replica.enabled=true}. A
+ * background thread periodically streams both sets from upstream into a new {@link ReplicaSnapshot} and publishes it
+ * with a single reference swap, so readers never lock and always see one consistent snapshot. Filter queries on
+ * {@code userId}, {@code id} and {@code postId} are then answered from primitive indexes instead of upstream. Until the
+ * first snapshot is loaded, once the snapshot is {@code max-age} old without a successful refresh, or for filters the
+ * replica cannot answer, the lookups return empty and the caller goes upstream as before. A comment query without
+ * matches is reported as not found, as upstream does.
+ */
+@Component
+@NoArgsConstructor
+public class LocalReplica {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalReplica.class);
+    private static final String USER_ID = "userId";
+    private static final String ID = "id";
+    private static final String POST_ID = "postId";
+
+    private final AuditionLogger logger = new AuditionLogger();
+    private final AtomicReference<ReplicaSnapshot> snapshot = new AtomicReference<>();
+
+    @Autowired
+    private AuditionPostIntegrationClient auditionPostIntegrationClient;
+
+    @Autowired
+    private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    private ScheduledExecutorService refreshExecutor;
+
+    /**
+     * Starts the periodic snapshot loads when the replica is enabled.
+     */
+    @PostConstruct
+    public void init() {
+        if (!replicaProperties.isEnabled()) {
+            return;
+        }
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-refresh-");
+        threadFactory.setDaemon(true);
+        refreshExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        refreshExecutor.scheduleWithFixedDelay(this::refreshQuietly, 0,
+            replicaProperties.getRefreshInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the snapshot loads.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads both sets from upstream and publishes them as the current snapshot. The previous snapshot stays in use
+     * until the new one is complete.
+     */
+    public void refresh() {
+        final long start = System.nanoTime();
+        final List<AuditionPost> posts = new ArrayList<>();
+        auditionPostIntegrationClient.streamPosts(Map.of(), posts::add);
+        final List<AuditionPostComment> comments = new ArrayList<>();
+        auditionCommentIntegrationClient.streamComments(Map.of(), comments::add);
+        final ReplicaSnapshot loaded = new ReplicaSnapshot(posts, comments, Instant.now());
+        snapshot.set(loaded);
+        logger.info(LOG, "Replica loaded {} posts and {} comments ({} bytes) in {} ms", loaded.postCount(),
+            loaded.commentCount(), loaded.commentPayloadBytes(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Answers a post query from the replica.
+     *
+     * @param queryParams query parameters as passed upstream
+     * @return the matching posts, or empty if the query has to go upstream
+     */
+    public Optional<List<AuditionPost>> findPosts(final Map<String, Object> queryParams) {
+        final ReplicaSnapshot current = current();
+        if (current == null || !supported(queryParams, Set.of(USER_ID, ID))) {
+            return Optional.empty();
+        }
+        final Integer userId = intParam(queryParams, USER_ID);
+        final Integer id = intParam(queryParams, ID);
+        if ((userId == null && queryParams.containsKey(USER_ID)) || (id == null && queryParams.containsKey(ID))) {
+            return Optional.empty();
+        }
+        return Optional.of(current.posts(userId, id));
+    }
+
+    /**
+     * Answers a comment query from the replica.
+     *
+     * @param filters query parameters as passed upstream
+     * @return the matching comments, or empty if the query has to go upstream
+     * @throws SystemException with status 404 if no comment matches, as upstream answers
+     */
+    public Optional<List<AuditionPostComment>> findComments(final Map<String, Object> filters) {
+        final ReplicaSnapshot current = current();
+        if (current == null || !supported(filters, Set.of(POST_ID))) {
+            return Optional.empty();
+        }
+        final Integer postId = intParam(filters, POST_ID);
+        if (postId == null && filters.containsKey(POST_ID)) {
+            return Optional.empty();
+        }
+        final List<AuditionPostComment> comments = current.comments(postId);
+        if (comments.isEmpty()) {
+            throw SystemException.expected("Cannot find comments with Post id ", "Resource Not Found",
+                HttpStatus.NOT_FOUND.value());
+        }
+        return Optional.of(comments);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (final RuntimeException e) {
+            logger.warn(LOG, "Replica refresh failed, keeping the previous snapshot: " + e.getMessage());
+        }
+    }
+
+    private ReplicaSnapshot current() {
+        final ReplicaSnapshot current = snapshot.get();
+        if (current == null || Duration.between(current.loadedAt(), Instant.now())
+            .compareTo(replicaProperties.getMaxAge()) >= 0) {
+            return null;
+        }
+        return current;
+    }
+
+    private static boolean supported(final Map<String, Object> params, final Set<String> names) {
+        return params == null || names.containsAll(params.keySet());
+    }
+
+    private static Integer intParam(final Map<String, Object> params, final String name) {
+        final Object value = params == null ? null : params.get(name);
+        if (value == null || value instanceof Integer) {
+            return (Integer) value;
+        }
+        try {
+            return Integer.valueOf(value.toString());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+}
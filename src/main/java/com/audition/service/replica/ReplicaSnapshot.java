@@ -0,0 +1,96 @@
+package com.audition.service.replica;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable copy of all posts and comments with primitive indexes on the filterable columns. A snapshot is never
+ * modified after construction, so any number of readers can use it without locking. Comments, by far the larger set,
+ * are held in a {@link CompactCommentStore} and materialized per query.
+ */
+final class ReplicaSnapshot {
+
+    private final List<AuditionPost> posts;
+    private final CompactCommentStore comments;
+    private final IntIndex postsById;
+    private final IntIndex postsByUserId;
+    private final IntIndex commentsByPostId;
+    private final Instant loadedAt;
+
+    ReplicaSnapshot(final List<AuditionPost> posts, final List<AuditionPostComment> comments, final Instant loadedAt) {
+        this.posts = List.copyOf(posts);
+        this.comments = CompactCommentStore.of(comments);
+        this.postsById = IntIndex.of(this.posts.stream().mapToInt(AuditionPost::getId).toArray());
+        this.postsByUserId = IntIndex.of(this.posts.stream().mapToInt(AuditionPost::getUserId).toArray());
+        this.commentsByPostId = IntIndex.of(this.comments.postIds());
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Returns the posts matching the filters, in upstream order.
+     *
+     * @param userId user id filter, or null
+     * @param id     post id filter, or null
+     * @return the matching posts
+     */
+    List<AuditionPost> posts(final Integer userId, final Integer id) {
+        if (id != null) {
+            final List<AuditionPost> byId = select(posts, postsById.rows(id));
+            return userId == null ? byId : byId.stream().filter(post -> post.getUserId() == userId).toList();
+        }
+        return userId == null ? posts : select(posts, postsByUserId.rows(userId));
+    }
+
+    /**
+     * Returns the comments matching the filter, in upstream order.
+     *
+     * @param postId post id filter, or null
+     * @return the matching comments
+     */
+    List<AuditionPostComment> comments(final Integer postId) {
+        if (postId != null) {
+            return materialize(commentsByPostId.rows(postId));
+        }
+        final AuditionPostComment[] all = new AuditionPostComment[comments.size()];
+        for (int row = 0; row < all.length; row++) {
+            all[row] = comments.get(row);
+        }
+        return List.of(all);
+    }
+
+    int postCount() {
+        return posts.size();
+    }
+
+    int commentCount() {
+        return comments.size();
+    }
+
+    long commentPayloadBytes() {
+        return comments.payloadBytes();
+    }
+
+    Instant loadedAt() {
+        return loadedAt;
+    }
+
+    private List<AuditionPostComment> materialize(final int[] rows) {
+        final AuditionPostComment[] selected = new AuditionPostComment[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            selected[i] = comments.get(rows[i]);
+        }
+        return List.of(selected);
+    }
+
+    private static <T> List<T> select(final List<T> items, final int[] rows) {
+        final Object[] selected = new Object[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            selected[i] = items.get(rows[i]);
+        }
+        @SuppressWarnings("unchecked")
+        final List<T> result = (List<T>) List.of(selected);
+        return result;
+    }
+}
@@ -1,18 +1,34 @@
 package com.audition.web;
 
 import com.audition.common.exception.SystemException;
+import com.audition.configuration.PassthroughProperties;
+import com.audition.model.AuditionPage;
+import com.audition.model.AuditionPageRequest;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
 import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import com.audition.model.RawJsonArray;
 import com.audition.service.AuditionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Positive;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,7 +36,11 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * This controller is responsible for handling HTTP requests for audition-related resources, such as retrieving and
@@ -30,29 +50,96 @@ import org.springframework.web.servlet.View;
 @RestController
 @NoArgsConstructor
 @Validated
+@ConditionalOnProperty(prefix = "application.integration", name = "mode", havingValue = "blocking", matchIfMissing = true)
 public class AuditionController {
 
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Autowired
     AuditionService auditionService;
     @Autowired
     private View error;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PassthroughProperties passthroughProperties;
 
     /**
      * This endpoint provides all posts which can be filtered using userId or PostId.
      *
      * @param userId : Id of the user
      * @param id     : Id of the post
-     * @return List of AuditionPost
+     * @param page   : 1 based page number
+     * @param size   : number of posts per page
+     * @param fields : properties to include in each post
+     * @return List of AuditionPost, with X-Total-Count and, when paged, Link headers
      */
     @RequestMapping(value = "/posts", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-    public @ResponseBody List<AuditionPost> getPosts(@RequestParam(required = false) @Positive final Integer userId,
-        @RequestParam(required = false) @Positive final Integer id) {
+    public ResponseEntity<List<?>> getPosts(@RequestParam(required = false) @Positive final Integer userId,
+        @RequestParam(required = false) @Positive final Integer id,
+        @RequestParam(required = false) @Positive final Integer page,
+        @RequestParam(required = false) @Positive final Integer size,
+        @RequestParam(required = false) final List<String> fields) {
+
+        final Map<String, Object> queryParam = new ConcurrentHashMap<>();
+        Optional.ofNullable(userId).ifPresent(value -> queryParam.put("userId", userId));
+        Optional.ofNullable(id).ifPresent(value -> queryParam.put("id", id));
+
+        final AuditionPageRequest pageRequest = AuditionPageRequest.builder().page(page).size(size).fields(fields)
+            .build();
+        return pageResponse(auditionService.getPosts(queryParam, pageRequest), pageRequest);
+    }
+
+    /**
+     * This endpoint provides all posts when no filter, page or projection is requested. With
+     * {@code application.passthrough.enabled} the upstream JSON is returned as is instead of being bound to
+     * AuditionPost and serialized again.
+     *
+     * @return all posts, with an X-Total-Count header
+     */
+    @RequestMapping(value = "/posts", params = {"!userId", "!id", "!ids", "!page", "!size", "!fields"},
+        method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getAllPosts() {
+        if (!passthroughProperties.isEnabled()) {
+            return getPosts(null, null, null, null, null);
+        }
+        return passthrough(auditionService.getPostsJson());
+    }
+
+    /**
+     * This endpoint streams all posts as newline delimited JSON. Posts are written as they are read from upstream, so
+     * the full list is never held in memory.
+     *
+     * @param userId : Id of the user
+     * @param id     : Id of the post
+     * @return one AuditionPost per line
+     */
+    @RequestMapping(value = "/posts", method = RequestMethod.GET, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPosts(
+        @RequestParam(required = false) @Positive final Integer userId,
+        @RequestParam(required = false) @Positive final Integer id, final HttpServletRequest request) {
 
         final Map<String, Object> queryParam = new ConcurrentHashMap<>();
         Optional.ofNullable(userId).ifPresent(value -> queryParam.put("userId", userId));
         Optional.ofNullable(id).ifPresent(value -> queryParam.put("id", id));
 
-        return auditionService.getPosts(queryParam);
+        return ndjson(request, generator -> auditionService.streamPosts(queryParam, writeLine(generator)));
+    }
+
+    /**
+     * This endpoint returns many posts in one call. Every distinct id gets an entry carrying either the post or the
+     * error for that id, in the order the ids were requested.
+     *
+     * @param ids : comma separated Ids of the posts
+     * @return List of AuditionPostBatchEntry
+     */
+    @RequestMapping(value = "/posts", params = "ids", method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody List<AuditionPostBatchEntry> getPostsByIds(@RequestParam("ids") final List<String> ids) {
+        if (ids.isEmpty()) {
+            throw SystemException.expected("ids must not be empty", HttpStatus.BAD_REQUEST.value());
+        }
+        return auditionService.getPostsByIds(ids);
     }
 
     /**
@@ -65,12 +152,27 @@ public class AuditionController {
     public @ResponseBody AuditionPost getPosts(@PathVariable("id") final String postId) {
 
         if (!postId.chars().allMatch(Character::isDigit)) {
-            throw new SystemException("postId must be numeric", HttpStatus.BAD_REQUEST.value());
+            throw SystemException.expected("postId must be numeric", HttpStatus.BAD_REQUEST.value());
         }
 
         return auditionService.getPostById(postId);
     }
 
+    /**
+     * This endpoint returns a post together with its comments, fetched concurrently from upstream.
+     *
+     * @param postId : Id of the post
+     * @return AuditionPostWithComments
+     */
+    @RequestMapping(value = "/posts/{id}", params = "include=comments", method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody AuditionPostWithComments getPostWithComments(@PathVariable("id") final Integer postId) {
+        if (postId <= 0) {
+            throw SystemException.expected("postId must be greater than zero", HttpStatus.BAD_REQUEST.value());
+        }
+        return auditionService.getPostWithComments(postId);
+    }
+
     /**
      * The endpoint returns list of comments associated with the given post.
      *
@@ -80,7 +182,7 @@ public class AuditionController {
     @RequestMapping(value = "/posts/{id}/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
     public @ResponseBody List<AuditionPostComment> getCommentsForPost(@PathVariable("id") final Integer postId) {
         if (postId <= 0) {
-            throw new SystemException("postId must be greater than zero", HttpStatus.BAD_REQUEST.value());
+            throw SystemException.expected("postId must be greater than zero", HttpStatus.BAD_REQUEST.value());
         }
         return auditionService.getCommentsForPost(postId);
     }
@@ -89,14 +191,119 @@ public class AuditionController {
      * This endpoint fetches all the comments, which can be filtered by postId.
      *
      * @param postId : Id of the post
-     * @return List of AuditionPostComment
+     * @param page   : 1 based page number
+     * @param size   : number of comments per page
+     * @param fields : properties to include in each comment
+     * @return List of AuditionPostComment, with X-Total-Count and, when paged, Link headers
      */
     @RequestMapping(value = "/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
-    public @ResponseBody List<AuditionPostComment> getComments(@RequestParam(required = false) final Integer postId) {
+    public ResponseEntity<List<?>> getComments(@RequestParam(required = false) final Integer postId,
+        @RequestParam(required = false) @Positive final Integer page,
+        @RequestParam(required = false) @Positive final Integer size,
+        @RequestParam(required = false) final List<String> fields) {
 
         final Map<String, Object> queryParams = new ConcurrentHashMap<>();
         Optional.ofNullable(postId).ifPresent(value -> queryParams.put("postId", postId));
-        return auditionService.getComments(queryParams);
+
+        final AuditionPageRequest pageRequest = AuditionPageRequest.builder().page(page).size(size).fields(fields)
+            .build();
+        return pageResponse(auditionService.getComments(queryParams, pageRequest), pageRequest);
+    }
+
+    /**
+     * This endpoint provides all comments when no filter, page or projection is requested. With
+     * {@code application.passthrough.enabled} the upstream JSON is returned as is instead of being bound to
+     * AuditionPostComment and serialized again.
+     *
+     * @return all comments, with an X-Total-Count header
+     */
+    @RequestMapping(value = "/comments", params = {"!postId", "!page", "!size", "!fields"},
+        method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getAllComments() {
+        if (!passthroughProperties.isEnabled()) {
+            return getComments(null, null, null, null);
+        }
+        return passthrough(auditionService.getCommentsJson());
+    }
+
+    /**
+     * This endpoint streams all the comments, optionally filtered by postId, as newline delimited JSON.
+     *
+     * @param postId : Id of the post
+     * @return one AuditionPostComment per line
+     */
+    @RequestMapping(value = "/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(
+        @RequestParam(required = false) final Integer postId, final HttpServletRequest request) {
+
+        final Map<String, Object> queryParams = new ConcurrentHashMap<>();
+        Optional.ofNullable(postId).ifPresent(value -> queryParams.put("postId", postId));
+        return ndjson(request, generator -> auditionService.streamComments(queryParams, writeLine(generator)));
+    }
+
+    private static ResponseEntity<byte[]> passthrough(final RawJsonArray json) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(TOTAL_COUNT_HEADER, String.valueOf(json.getSize()))
+            .body(json.getContent());
+    }
+
+    private static ResponseEntity<List<?>> pageResponse(final AuditionPage<?> result,
+        final AuditionPageRequest pageRequest) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotalCount()));
+        if (pageRequest.isPaged()) {
+            response.header(HttpHeaders.LINK, links(result));
+        }
+        return response.body(result.getItems());
+    }
+
+    private static String links(final AuditionPage<?> result) {
+        final UriComponentsBuilder uri = ServletUriComponentsBuilder.fromCurrentRequest()
+            .replaceQueryParam("size", result.getSize());
+        final int lastPage = result.getTotalPages();
+        final List<String> links = new ArrayList<>();
+        links.add(link(uri, 1, "first"));
+        if (result.getPage() > 1) {
+            links.add(link(uri, Math.min(result.getPage() - 1, lastPage), "prev"));
+        }
+        if (result.getPage() < lastPage) {
+            links.add(link(uri, result.getPage() + 1, "next"));
+        }
+        links.add(link(uri, lastPage, "last"));
+        return String.join(", ", links);
+    }
+
+    private static String link(final UriComponentsBuilder uri, final int page, final String rel) {
+        return "<" + uri.cloneBuilder().replaceQueryParam("page", page).toUriString() + ">; rel=\"" + rel + "\"";
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(final HttpServletRequest request,
+        final Consumer<JsonGenerator> body) {
+        // a streamed body has no ETag, buffering it for one would defeat streaming
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        final StreamingResponseBody stream = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                body.accept(generator);
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    private static <T> Consumer<T> writeLine(final JsonGenerator generator) {
+        return value -> {
+            try {
+                generator.writeObject(value);
+                generator.writeRaw('\n');
+                generator.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
     }
 
 }
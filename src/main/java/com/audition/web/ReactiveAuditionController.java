@@ -0,0 +1,136 @@
+package com.audition.web;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
+import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import com.audition.service.ReactiveAuditionService;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the same endpoints as {@link AuditionController} with non-blocking upstream calls. Spring MVC completes the
+ * returned {@link Mono}/{@link Flux} asynchronously, so no servlet thread is held while the upstream call is in flight.
+ * Active when {@code application.integration.mode} is {@code reactive}.
+ */
+@RestController
+@NoArgsConstructor
+@Validated
+@ConditionalOnProperty(prefix = "application.integration", name = "mode", havingValue = "reactive")
+public class ReactiveAuditionController {
+
+    @Autowired
+    ReactiveAuditionService reactiveAuditionService;
+
+    /**
+     * This endpoint provides all posts which can be filtered using userId or PostId.
+     *
+     * @param userId : Id of the user
+     * @param id     : Id of the post
+     * @return Flux of AuditionPost, streamed one per line when application/x-ndjson is requested
+     */
+    @RequestMapping(value = "/posts", method = RequestMethod.GET,
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public @ResponseBody Flux<AuditionPost> getPosts(@RequestParam(required = false) @Positive final Integer userId,
+        @RequestParam(required = false) @Positive final Integer id) {
+
+        final Map<String, Object> queryParam = new ConcurrentHashMap<>();
+        Optional.ofNullable(userId).ifPresent(value -> queryParam.put("userId", userId));
+        Optional.ofNullable(id).ifPresent(value -> queryParam.put("id", id));
+
+        return reactiveAuditionService.getPosts(queryParam);
+    }
+
+    /**
+     * This endpoint returns many posts in one call, with one entry per distinct id in request order.
+     *
+     * @param ids : comma separated Ids of the posts
+     * @return Flux of AuditionPostBatchEntry
+     */
+    @RequestMapping(value = "/posts", params = "ids", method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody Flux<AuditionPostBatchEntry> getPostsByIds(@RequestParam("ids") final List<String> ids) {
+        if (ids.isEmpty()) {
+            throw SystemException.expected("ids must not be empty", HttpStatus.BAD_REQUEST.value());
+        }
+        return reactiveAuditionService.getPostsByIds(ids);
+    }
+
+    /**
+     * This endpoint returns a post for the given Id.
+     *
+     * @param postId : Id of the post
+     * @return Mono of AuditionPost
+     */
+    @RequestMapping(value = "/posts/{id}", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody Mono<AuditionPost> getPosts(@PathVariable("id") final String postId) {
+
+        if (!postId.chars().allMatch(Character::isDigit)) {
+            throw SystemException.expected("postId must be numeric", HttpStatus.BAD_REQUEST.value());
+        }
+
+        return reactiveAuditionService.getPostById(postId);
+    }
+
+    /**
+     * This endpoint returns a post together with its comments, fetched concurrently from upstream.
+     *
+     * @param postId : Id of the post
+     * @return Mono of AuditionPostWithComments
+     */
+    @RequestMapping(value = "/posts/{id}", params = "include=comments", method = RequestMethod.GET,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody Mono<AuditionPostWithComments> getPostWithComments(@PathVariable("id") final Integer postId) {
+        if (postId <= 0) {
+            throw SystemException.expected("postId must be greater than zero", HttpStatus.BAD_REQUEST.value());
+        }
+        return reactiveAuditionService.getPostWithComments(postId);
+    }
+
+    /**
+     * The endpoint returns list of comments associated with the given post.
+     *
+     * @param postId : Id of the post
+     * @return Flux of AuditionPostComment
+     */
+    @RequestMapping(value = "/posts/{id}/comments", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    public @ResponseBody Flux<AuditionPostComment> getCommentsForPost(@PathVariable("id") final Integer postId) {
+        if (postId <= 0) {
+            throw SystemException.expected("postId must be greater than zero", HttpStatus.BAD_REQUEST.value());
+        }
+        return reactiveAuditionService.getCommentsForPost(postId);
+    }
+
+    /**
+     * This endpoint fetches all the comments, which can be filtered by postId.
+     *
+     * @param postId : Id of the post
+     * @return Flux of AuditionPostComment, streamed one per line when application/x-ndjson is requested
+     */
+    @RequestMapping(value = "/comments", method = RequestMethod.GET,
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public @ResponseBody Flux<AuditionPostComment> getComments(@RequestParam(required = false) final Integer postId) {
+
+        final Map<String, Object> queryParams = new ConcurrentHashMap<>();
+        Optional.ofNullable(postId).ifPresent(value -> queryParams.put("postId", postId));
+        return reactiveAuditionService.getComments(queryParams);
+    }
+}
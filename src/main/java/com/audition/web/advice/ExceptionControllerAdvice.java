@@ -2,7 +2,12 @@ package com.audition.web.advice;
 
 import com.audition.common.exception.SystemException;
 import com.audition.common.logging.AuditionLogger;
+import com.audition.common.logging.ErrorLogLimiter;
 import io.micrometer.common.util.StringUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NoArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +24,11 @@ import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.METHOD_NOT_ALLOWED;
 
 
+/**
+ * Maps exceptions to problem details. Every handled error is counted in {@code audition.errors} by response status.
+ * Server errors are logged at ERROR with their stack trace, client errors such as 400 and 404 at WARN in one line; in
+ * both cases only up to a configured number per status and time window is logged.
+ */
 @ControllerAdvice
 @NoArgsConstructor
 public class ExceptionControllerAdvice extends ResponseEntityExceptionHandler {
@@ -31,8 +41,17 @@ public class ExceptionControllerAdvice extends ResponseEntityExceptionHandler {
     @Autowired
     private AuditionLogger logger;
 
+    @Autowired
+    private ErrorLogLimiter errorLogLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Integer, Counter> errorCounters = new ConcurrentHashMap<>();
+
     @ExceptionHandler(HttpClientErrorException.class)
     ProblemDetail handleHttpClientException(final HttpClientErrorException e) {
+        errorCounter(e.getStatusCode()).increment();
         return createProblemDetail(e, e.getStatusCode());
 
     }
@@ -40,24 +59,44 @@ public class ExceptionControllerAdvice extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     ProblemDetail handleMainException(final Exception e) {
-        if (LOG.isErrorEnabled()) {
-            logger.logErrorWithException(LOG, e.getMessage(), e);
-        }
         final HttpStatusCode status = getHttpStatusCodeFromException(e);
+        recordError(e, status);
         return createProblemDetail(e, status);
 
     }
 
     @ExceptionHandler(SystemException.class)
     ProblemDetail handleSystemException(final SystemException e) {
-        if (LOG.isErrorEnabled()) {
-            logger.logErrorWithException(LOG, e.getMessage(), e);
-        }
         final HttpStatusCode status = getHttpStatusCodeFromSystemException(e);
+        recordError(e, status);
         return createProblemDetail(e, status);
 
     }
 
+    private void recordError(final Exception exception, final HttpStatusCode status) {
+        errorCounter(status).increment();
+        final long suppressed = errorLogLimiter.tryAcquire(status.value());
+        if (suppressed < 0) {
+            return;
+        }
+        final String message = suppressed == 0 ? exception.getMessage()
+            : exception.getMessage() + " (" + suppressed + " similar errors not logged)";
+        if (status.is5xxServerError()) {
+            if (LOG.isErrorEnabled()) {
+                logger.logErrorWithException(LOG, message, exception);
+            }
+        } else if (LOG.isWarnEnabled()) {
+            logger.warn(LOG, status.value() + " " + message);
+        }
+    }
+
+    private Counter errorCounter(final HttpStatusCode status) {
+        return errorCounters.computeIfAbsent(status.value(), code -> Counter.builder("audition.errors")
+            .description("Errors answered with a problem detail, by response status")
+            .tag("status", String.valueOf(code))
+            .register(meterRegistry));
+    }
+
 
     private ProblemDetail createProblemDetail(final Exception exception,
         final HttpStatusCode statusCode) {
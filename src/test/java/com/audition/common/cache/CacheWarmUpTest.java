@@ -0,0 +1,91 @@
+package com.audition.common.cache;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.PassthroughProperties;
+import com.audition.configuration.WarmUpProperties;
+import com.audition.integration.AuditionCommentIntegrationClient;
+import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.audition.model.RawJsonArray;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@NoArgsConstructor
+class CacheWarmUpTest {
+
+    @Mock
+    private AuditionPostIntegrationClient auditionPostIntegrationClient;
+
+    @Mock
+    private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.POST, CacheNames.POST_COMMENTS);
+
+    @Spy
+    private WarmUpProperties warmUpProperties = new WarmUpProperties();
+
+    @Spy
+    private PassthroughProperties passthroughProperties = new PassthroughProperties();
+
+    @InjectMocks
+    private CacheWarmUp cacheWarmUp;
+
+    @Test
+    void testEntityCachesAreSeededFromBulkLoads() throws InterruptedException {
+        final AuditionPost post = AuditionPost.builder().id(1).userId(1).title("Title").build();
+        final AuditionPostComment first = AuditionPostComment.builder().id(1).postId(1).build();
+        final AuditionPostComment second = AuditionPostComment.builder().id(2).postId(1).build();
+        when(auditionPostIntegrationClient.getPosts(Map.of())).thenReturn(List.of(post));
+        when(auditionCommentIntegrationClient.getComments(Map.of())).thenReturn(List.of(first, second));
+
+        cacheWarmUp.run(new DefaultApplicationArguments());
+
+        assertThat(cacheManager.getCache(CacheNames.POST).get("1", AuditionPost.class)).isSameAs(post);
+        assertThat(cacheManager.getCache(CacheNames.POST_COMMENTS).get(1, List.class)).containsExactly(first, second);
+        verify(auditionPostIntegrationClient, never()).getPostsJson();
+    }
+
+    @Test
+    void testPassthroughArraysAreLoadedWhenEnabled() throws InterruptedException {
+        passthroughProperties.setEnabled(true);
+        final byte[] json = "[]".getBytes(StandardCharsets.UTF_8);
+        when(auditionPostIntegrationClient.getPosts(Map.of())).thenReturn(List.of());
+        when(auditionCommentIntegrationClient.getComments(Map.of())).thenReturn(List.of());
+        when(auditionPostIntegrationClient.getPostsJson()).thenReturn(new RawJsonArray(json, 0));
+        when(auditionCommentIntegrationClient.getCommentsJson()).thenReturn(new RawJsonArray(json, 0));
+
+        cacheWarmUp.run(new DefaultApplicationArguments());
+
+        verify(auditionPostIntegrationClient).getPostsJson();
+        verify(auditionCommentIntegrationClient).getCommentsJson();
+    }
+
+    @Test
+    void testFailedLoadDoesNotFailStartup() throws InterruptedException {
+        when(auditionPostIntegrationClient.getPosts(Map.of())).thenThrow(
+            new SystemException("Service Unavailable", "Service Unavailable", 503));
+        when(auditionCommentIntegrationClient.getComments(Map.of())).thenReturn(List.of());
+
+        cacheWarmUp.run(new DefaultApplicationArguments());
+
+        assertThat(cacheManager.getCache(CacheNames.POST).get("1")).isNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.audition.common.cache;
+
+import com.audition.common.exception.SystemException;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@NoArgsConstructor
+class NotFoundCacheAspectTest {
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheNames.NOT_FOUND);
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @InjectMocks
+    private NotFoundCacheAspect notFoundCacheAspect;
+
+    @BeforeEach
+    void setUp() {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.toShortString()).thenReturn("AuditionPostIntegrationClient.getPostById(..)");
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"1"});
+    }
+
+    @Test
+    void testNotFoundIsServedFromCache() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(
+            new SystemException("Cannot find a Post with given id 1", "Resource Not Found", HttpStatus.NOT_FOUND.value()));
+
+        assertThrows(SystemException.class, () -> notFoundCacheAspect.cacheNotFound(joinPoint));
+        assertThrows(SystemException.class, () -> notFoundCacheAspect.cacheNotFound(joinPoint));
+        verify(joinPoint, times(1)).proceed();
+    }
+
+    @Test
+    void testOtherErrorsAreNotCached() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new SystemException("Bad Request", "System error ", 400));
+
+        assertThrows(SystemException.class, () -> notFoundCacheAspect.cacheNotFound(joinPoint));
+        assertThrows(SystemException.class, () -> notFoundCacheAspect.cacheNotFound(joinPoint));
+        verify(joinPoint, times(2)).proceed();
+    }
+
+    @Test
+    void testSuccessfulResultIsReturned() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("post");
+
+        assertThat(notFoundCacheAspect.cacheNotFound(joinPoint)).isEqualTo("post");
+    }
+}
@@ -0,0 +1,31 @@
+package com.audition.common.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SystemExceptionTest {
+
+    @Test
+    void testExpectedHasNoStackTrace() {
+        final IllegalStateException cause = new IllegalStateException("upstream 404");
+
+        final SystemException exception = SystemException.expected("Cannot find a Post with given id 1",
+            "Resource Not Found", HttpStatus.NOT_FOUND.value(), cause);
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThat(cause.getStackTrace()).isNotEmpty();
+        assertThat(exception.getStatusCode()).isEqualTo(404);
+        assertThat(exception.getTitle()).isEqualTo("Resource Not Found");
+        assertThat(exception.getMessage()).isEqualTo("Cannot find a Post with given id 1");
+    }
+
+    @Test
+    void testConstructorKeepsStackTrace() {
+        assertThat(new SystemException("Upstream failure", 502).getStackTrace()).isNotEmpty();
+        assertThat(SystemException.expected("postId must be numeric", 400).getTitle())
+            .isEqualTo(SystemException.DEFAULT_TITLE);
+    }
+}
@@ -0,0 +1,35 @@
+package com.audition.common.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorLogLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ErrorLogLimiter limiter = new ErrorLogLimiter(2, Duration.ofSeconds(1), now::get);
+
+    @Test
+    void testLogsUpToTheLimitPerWindowAndReportsSuppressed() {
+        assertThat(limiter.tryAcquire(404)).isZero();
+        assertThat(limiter.tryAcquire(404)).isZero();
+        assertThat(limiter.tryAcquire(404)).isEqualTo(-1);
+        assertThat(limiter.tryAcquire(404)).isEqualTo(-1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertThat(limiter.tryAcquire(404)).isEqualTo(2);
+        assertThat(limiter.tryAcquire(404)).isZero();
+    }
+
+    @Test
+    void testStatusesAreLimitedIndependently() {
+        limiter.tryAcquire(404);
+        limiter.tryAcquire(404);
+
+        assertThat(limiter.tryAcquire(404)).isEqualTo(-1);
+        assertThat(limiter.tryAcquire(500)).isZero();
+    }
+}
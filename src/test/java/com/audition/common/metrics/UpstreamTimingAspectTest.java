@@ -0,0 +1,77 @@
+package com.audition.common.metrics;
+
+import com.audition.integration.AuditionPostIntegrationClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Flux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@NoArgsConstructor
+class UpstreamTimingAspectTest {
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    @InjectMocks
+    private UpstreamTimingAspect upstreamTimingAspect;
+
+    @BeforeEach
+    void setUp() {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(AuditionPostIntegrationClient.class);
+        when(signature.getName()).thenReturn("getPostById");
+    }
+
+    @Test
+    void testUpstreamResponseStatusIsTagged() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+        assertThrows(HttpServerErrorException.class, () -> upstreamTimingAspect.time(joinPoint));
+
+        assertThat(meterRegistry.get(UpstreamTimingAspect.METRIC_NAME).tag("status", "502")
+            .tag("outcome", "SERVER_ERROR").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testIoErrorIsTaggedWithoutStatus() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ResourceAccessException("I/O error", new IOException("reset")));
+
+        assertThrows(ResourceAccessException.class, () -> upstreamTimingAspect.time(joinPoint));
+
+        assertThat(meterRegistry.get(UpstreamTimingAspect.METRIC_NAME).tag("status", "IO_ERROR")
+            .tag("outcome", "UNKNOWN").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCancelledFluxIsRecorded() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(Flux.never());
+
+        ((Flux<?>) upstreamTimingAspect.time(joinPoint)).subscribe().dispose();
+
+        assertThat(meterRegistry.get(UpstreamTimingAspect.METRIC_NAME).tag("status", "CANCELLED").timer().count())
+            .isEqualTo(1);
+    }
+}
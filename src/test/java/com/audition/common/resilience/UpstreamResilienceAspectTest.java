@@ -0,0 +1,176 @@
+package com.audition.common.resilience;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ResilienceProperties;
+import com.audition.model.AuditionPost;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import lombok.NoArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@NoArgsConstructor
+class UpstreamResilienceAspectTest {
+
+    private static final AuditionPost POST_1 = AuditionPost.builder().userId(1).id(1).title("Mock title1").build();
+
+    @Spy
+    private ResilienceProperties properties = new ResilienceProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    @InjectMocks
+    private UpstreamResilienceAspect upstreamResilienceAspect;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMinimumNumberOfCalls(2);
+        properties.setSlidingWindowSize(2);
+        properties.setTimeout(Duration.ofMillis(200));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("getPostById");
+        when(signature.getReturnType()).thenReturn(AuditionPost.class);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"1"});
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstreamResilienceAspect.shutdown();
+    }
+
+    @Test
+    void testClientErrorsDoNotOpenTheCircuit() throws Throwable {
+        upstreamResilienceAspect.init();
+        when(joinPoint.proceed()).thenThrow(new SystemException("Not found", "Resource Not Found", 404));
+
+        for (int i = 0; i < 3; i++) {
+            final SystemException exception = assertThrows(SystemException.class,
+                () -> upstreamResilienceAspect.protect(joinPoint));
+            assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        }
+        verify(joinPoint, times(3)).proceed();
+    }
+
+    @Test
+    void testServerErrorsOpenTheCircuit() throws Throwable {
+        properties.setServeStale(false);
+        upstreamResilienceAspect.init();
+        when(joinPoint.proceed()).thenThrow(new SystemException("Upstream failed", "System error ", 500));
+
+        assertThrows(SystemException.class, () -> upstreamResilienceAspect.protect(joinPoint));
+        assertThrows(SystemException.class, () -> upstreamResilienceAspect.protect(joinPoint));
+        final SystemException rejected = assertThrows(SystemException.class,
+            () -> upstreamResilienceAspect.protect(joinPoint));
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        verify(joinPoint, times(2)).proceed();
+    }
+
+    @Test
+    void testStaleResultIsServedOnServerError() throws Throwable {
+        upstreamResilienceAspect.init();
+        when(joinPoint.proceed()).thenReturn(POST_1)
+            .thenThrow(new SystemException("Upstream failed", "System error ", 500));
+
+        assertThat(upstreamResilienceAspect.protect(joinPoint)).isEqualTo(POST_1);
+        assertThat(upstreamResilienceAspect.protect(joinPoint)).isEqualTo(POST_1);
+    }
+
+    @Test
+    void testSlowCallTimesOut() throws Throwable {
+        properties.setServeStale(false);
+        upstreamResilienceAspect.init();
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return POST_1;
+        });
+
+        final SystemException exception = assertThrows(SystemException.class,
+            () -> upstreamResilienceAspect.protect(joinPoint));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT.value());
+    }
+
+    @Test
+    void testReactiveTimeoutsOpenTheCircuit() throws Throwable {
+        properties.setServeStale(false);
+        upstreamResilienceAspect.init();
+        when(signature.getReturnType()).thenReturn(Mono.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> Mono.never());
+
+        for (int i = 0; i < 2; i++) {
+            final SystemException timedOut = assertThrows(SystemException.class,
+                () -> ((Mono<?>) upstreamResilienceAspect.protect(joinPoint)).block());
+            assertThat(timedOut.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT.value());
+        }
+        final SystemException rejected = assertThrows(SystemException.class,
+            () -> ((Mono<?>) upstreamResilienceAspect.protect(joinPoint)).block());
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    void testStreamingClientDisconnectsDoNotOpenTheCircuit() throws Throwable {
+        upstreamResilienceAspect.init();
+        when(signature.getName()).thenReturn("streamComments");
+        when(signature.getReturnType()).thenReturn(int.class);
+        when(joinPoint.proceed()).thenThrow(new UncheckedIOException(new IOException("Broken pipe")));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(UncheckedIOException.class, () -> upstreamResilienceAspect.protect(joinPoint));
+        }
+        verify(joinPoint, times(3)).proceed();
+    }
+
+    @Test
+    void testStreamingServerErrorsOpenTheCircuit() throws Throwable {
+        upstreamResilienceAspect.init();
+        when(signature.getName()).thenReturn("streamComments");
+        when(signature.getReturnType()).thenReturn(int.class);
+        when(joinPoint.proceed()).thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+        assertThrows(HttpServerErrorException.class, () -> upstreamResilienceAspect.protect(joinPoint));
+        assertThrows(HttpServerErrorException.class, () -> upstreamResilienceAspect.protect(joinPoint));
+        final SystemException rejected = assertThrows(SystemException.class,
+            () -> upstreamResilienceAspect.protect(joinPoint));
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        verify(joinPoint, times(2)).proceed();
+    }
+
+    @Test
+    void testOnlyUpstreamFailuresAreRecorded() {
+        assertThat(UpstreamResilienceAspect.isUpstreamFailure(new HttpServerErrorException(HttpStatus.BAD_GATEWAY)))
+            .isTrue();
+        assertThat(UpstreamResilienceAspect.isUpstreamFailure(new IOException("Connection reset"))).isTrue();
+        assertThat(UpstreamResilienceAspect.isUpstreamFailure(new SystemException("Not found", "Not Found", 404)))
+            .isFalse();
+        assertThat(UpstreamResilienceAspect.isUpstreamFailure(new UncheckedIOException(new IOException("Broken pipe"))))
+            .isFalse();
+        assertThat(UpstreamResilienceAspect.isUpstreamFailure(new IllegalStateException("Serialization failed")))
+            .isFalse();
+    }
+}
@@ -0,0 +1,122 @@
+package com.audition.configuration;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCacheConfigurationTest {
+
+    private static final String BODY = "{\"userId\":1,\"id\":1,\"title\":\"Mock title1\"}";
+    private static final String LINE = BODY + "\n";
+
+    private final HttpCacheProperties properties = new HttpCacheProperties();
+    private final HttpCacheConfiguration configuration = new HttpCacheConfiguration();
+
+    private int status = HttpServletResponse.SC_OK;
+    private MockHttpServletResponse response;
+    private String writtenThroughBeforeCompletion;
+
+    private final HttpServlet jsonServlet = new HttpServlet() {
+        @Override
+        protected void doGet(final HttpServletRequest request, final HttpServletResponse servletResponse)
+            throws IOException {
+            servletResponse.setStatus(status);
+            servletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            servletResponse.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    private final HttpServlet ndjsonServlet = new HttpServlet() {
+        @Override
+        protected void doGet(final HttpServletRequest request, final HttpServletResponse servletResponse)
+            throws IOException {
+            ShallowEtagHeaderFilter.disableContentCaching(request);
+            servletResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            servletResponse.getOutputStream().write(LINE.getBytes(StandardCharsets.UTF_8));
+            servletResponse.getOutputStream().flush();
+            writtenThroughBeforeCompletion = response.getContentAsString();
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties.getMaxAge().put("/posts", Duration.ofSeconds(60));
+        properties.getMaxAge().put("/posts/*", Duration.ofMinutes(5));
+        properties.getMaxAge().put("/posts/*/comments", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(configuration, "httpCacheProperties", properties);
+    }
+
+    @Test
+    void testMatchingIfNoneMatchIsAnsweredWithNotModified() throws ServletException, IOException {
+        final MockHttpServletResponse first = get("/posts/1", null, jsonServlet);
+        final String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        assertThat(first.getContentAsString()).isEqualTo(BODY);
+
+        final MockHttpServletResponse second = get("/posts/1", etag, jsonServlet);
+
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(second.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=300");
+    }
+
+    @Test
+    void testMaxAgeIsAppliedPerRoute() throws ServletException, IOException {
+        assertThat(get("/posts", null, jsonServlet).getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=60");
+        assertThat(get("/posts/1", null, jsonServlet).getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=300");
+        assertThat(get("/posts/1/comments", null, jsonServlet).getHeader(HttpHeaders.CACHE_CONTROL))
+            .isEqualTo("max-age=60");
+        assertThat(get("/comments", null, jsonServlet).getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    @Test
+    void testErrorResponsesAreNotStored() throws ServletException, IOException {
+        status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        final MockHttpServletResponse unavailable = get("/posts/1", null, jsonServlet);
+        assertThat(unavailable.getStatus()).isEqualTo(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        assertThat(unavailable.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-store");
+
+        status = HttpServletResponse.SC_NOT_FOUND;
+        assertThat(get("/comments", null, jsonServlet).getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-store");
+    }
+
+    @Test
+    void testNdjsonIsWrittenThroughWithoutEtag() throws ServletException, IOException {
+        final MockHttpServletResponse streamed = get("/posts", null, ndjsonServlet);
+
+        assertThat(writtenThroughBeforeCompletion).isEqualTo(LINE);
+        assertThat(streamed.getContentAsString()).isEqualTo(LINE);
+        assertThat(streamed.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    private MockHttpServletResponse get(final String path, final String ifNoneMatch, final HttpServlet servlet)
+        throws ServletException, IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        response = new MockHttpServletResponse();
+        final Filter cacheControl = configuration.cacheControlFilter().getFilter();
+        final Filter etag = configuration.etagFilter().getFilter();
+        new MockFilterChain(servlet, cacheControl, etag).doFilter(request, response);
+        return response;
+    }
+}
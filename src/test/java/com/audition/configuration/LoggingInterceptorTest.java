@@ -0,0 +1,126 @@
+package com.audition.configuration;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingInterceptorTest {
+
+    private static final byte[] RESPONSE_BODY = "[{\"id\":1,\"title\":\"Mock title1\"}]"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+        URI.create("https://jsonplaceholder.typicode.com/posts"));
+    private final ClientHttpRequestExecution execution = (req, body) ->
+        new MockClientHttpResponse(RESPONSE_BODY, HttpStatus.OK);
+
+    private final Logger interceptorLog = (Logger) LoggerFactory.getLogger(LoggingInterceptor.class);
+    private final Level originalLevel = interceptorLog.getLevel();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private void enableDebug() {
+        interceptorLog.setLevel(Level.DEBUG);
+        appender.start();
+        interceptorLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptorLog.detachAppender(appender);
+        interceptorLog.setLevel(originalLevel);
+    }
+
+    @Test
+    void testBodiesAreLoggedTruncatedAtDebug() throws IOException {
+        enableDebug();
+        final UpstreamLoggingProperties properties = new UpstreamLoggingProperties();
+        properties.setLogBodies(true);
+        properties.setMaxBodyBytes(8);
+        final TrackingBody responseBody = new TrackingBody(RESPONSE_BODY);
+
+        final byte[] requestBody = "{\"title\":\"new\"}".getBytes(StandardCharsets.UTF_8);
+
+        try (ClientHttpResponse response = new LoggingInterceptor(properties).intercept(request, requestBody,
+            (req, body) -> new MockClientHttpResponse(responseBody, HttpStatus.OK))) {
+            assertThat(responseBody.readBeforeReset).isEqualTo(8);
+            assertThat(StreamUtils.copyToByteArray(response.getBody())).isEqualTo(RESPONSE_BODY);
+        }
+
+        assertThat(appender.list).filteredOn(event -> event.getLevel() == Level.DEBUG)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Request Body: {\"title\"...(truncated)", "Response Body: [{\"id\":1...(truncated)");
+    }
+
+    @Test
+    void testBodiesWithinLimitAreLoggedWhole() throws IOException {
+        enableDebug();
+        final UpstreamLoggingProperties properties = new UpstreamLoggingProperties();
+        properties.setLogBodies(true);
+        properties.setMaxBodyBytes(RESPONSE_BODY.length);
+
+        new LoggingInterceptor(properties).intercept(request, new byte[0], execution).close();
+
+        assertThat(appender.list).filteredOn(event -> event.getLevel() == Level.DEBUG)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Request Body: ", "Response Body: " + new String(RESPONSE_BODY, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testResponseBodyIsNotConsumedWhenBodiesAreLogged() throws IOException {
+        final UpstreamLoggingProperties properties = new UpstreamLoggingProperties();
+        properties.setLogBodies(true);
+        properties.setMaxBodyBytes(8);
+
+        try (ClientHttpResponse response = new LoggingInterceptor(properties).intercept(request, new byte[0],
+            execution)) {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(StreamUtils.copyToByteArray(response.getBody())).isEqualTo(RESPONSE_BODY);
+        }
+    }
+
+    @Test
+    void testUnsampledCallIsPassedThrough() throws IOException {
+        final UpstreamLoggingProperties properties = new UpstreamLoggingProperties();
+        properties.setSampleRate(0.0);
+
+        try (ClientHttpResponse response = new LoggingInterceptor(properties).intercept(request, new byte[0],
+            execution)) {
+            assertThat(StreamUtils.copyToByteArray(response.getBody())).isEqualTo(RESPONSE_BODY);
+        }
+    }
+
+    /**
+     * A buffered body that remembers how far it was read before being reset.
+     */
+    private static final class TrackingBody extends ByteArrayInputStream {
+
+        private int readBeforeReset;
+
+        TrackingBody(final byte[] body) {
+            super(body);
+        }
+
+        @Override
+        public synchronized void reset() {
+            readBeforeReset = Math.max(readBeforeReset, pos);
+            super.reset();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.audition.configuration;
+
+import com.audition.common.cache.CacheGenerations;
+import com.audition.common.cache.CacheNames;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBodyCacheFilterTest {
+
+    private static final String BODY = "[{\"id\":1,\"title\":\"" + "x".repeat(2048) + "\"}]";
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final CacheGenerations generations = new CacheGenerations();
+    private final ResponseBodyCacheFilter filter = new ResponseBodyCacheFilter(new HttpCacheProperties.ResponseCache(),
+        generations, new SimpleMeterRegistry());
+
+    private int status = HttpServletResponse.SC_OK;
+
+    private final HttpServlet servlet = new HttpServlet() {
+        @Override
+        protected void doGet(final HttpServletRequest request, final HttpServletResponse response)
+            throws IOException {
+            renders.incrementAndGet();
+            response.setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setHeader("X-Total-Count", "1");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    @Test
+    void testHitIsServedWithoutRendering() throws ServletException, IOException {
+        final MockHttpServletResponse first = get("/posts", "userId=1&page=0");
+        final MockHttpServletResponse second = get("/posts", "page=0&userId=1");
+
+        assertThat(renders).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo(BODY);
+        assertThat(second.getContentLength()).isEqualTo(BODY.length());
+        assertThat(second.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(second.getHeader("X-Total-Count")).isEqualTo("1");
+    }
+
+    @Test
+    void testHitIsServedUncompressedWhenGzipIsAccepted() throws ServletException, IOException {
+        get("/comments", null);
+        final MockHttpServletRequest request = request("/comments", null);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+
+        assertThat(renders).hasValue(1);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void testHostHeaderIsNotPartOfTheKey() throws ServletException, IOException {
+        final MockHttpServletRequest first = request("/posts/1", null);
+        first.setServerName("api.example.com");
+        filter.doFilter(first, new MockHttpServletResponse(), new MockFilterChain(servlet));
+        final MockHttpServletRequest second = request("/posts/1", null);
+        second.setServerName("attacker.example.com");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(second, response, new MockFilterChain(servlet));
+
+        assertThat(renders).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    void testEntryIsDroppedWhenUnderlyingCacheChanges() throws ServletException, IOException {
+        get("/posts/1/comments", null);
+        generations.increment(CacheNames.COMMENTS);
+        get("/posts/1/comments", null);
+        assertThat(renders).hasValue(1);
+
+        generations.increment(CacheNames.POST_COMMENTS);
+        get("/posts/1/comments", null);
+        assertThat(renders).hasValue(2);
+    }
+
+    @Test
+    void testErrorResponsesAreNotCached() throws ServletException, IOException {
+        status = HttpServletResponse.SC_NOT_FOUND;
+        get("/posts/1", null);
+        final MockHttpServletResponse second = get("/posts/1", null);
+
+        assertThat(renders).hasValue(2);
+        assertThat(second.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_FOUND);
+        assertThat(second.getContentAsString()).isEqualTo(BODY);
+    }
+
+    private MockHttpServletResponse get(final String path, final String query) throws ServletException, IOException {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(path, query), response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(final String path, final String query) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        if (query != null) {
+            request.setQueryString(query);
+            for (final String parameter : query.split("&")) {
+                final String[] pair = parameter.split("=");
+                request.addParameter(pair[0], pair[1]);
+            }
+        }
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package com.audition.configuration;
+
+import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import com.audition.web.AuditionController;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@NoArgsConstructor
+class WebServiceConfigurationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    @Qualifier("streamingRestTemplate")
+    private RestTemplate streamingRestTemplate;
+
+    @Autowired
+    private HttpMessageConverters httpMessageConverters;
+
+    @Autowired
+    private AuditionController auditionController;
+
+    @Autowired
+    private AuditionPostIntegrationClient auditionPostIntegrationClient;
+
+    @Test
+    void testConfiguredMapperIsSharedByTheConverters() {
+        assertThat(objectMapper.getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion())
+            .isEqualTo(JsonInclude.Include.NON_EMPTY);
+
+        assertThat(jacksonConverter(restTemplate.getMessageConverters()).getObjectMapper()).isSameAs(objectMapper);
+        assertThat(jacksonConverter(streamingRestTemplate.getMessageConverters()).getObjectMapper())
+            .isSameAs(objectMapper);
+        assertThat(jacksonConverter(httpMessageConverters.getConverters()).getObjectMapper()).isSameAs(objectMapper);
+        assertThat(ReflectionTestUtils.getField(AopTestUtils.getUltimateTargetObject(auditionController),
+            "objectMapper")).isSameAs(objectMapper);
+        assertThat(ReflectionTestUtils.getField(AopTestUtils.getUltimateTargetObject(auditionPostIntegrationClient),
+            "objectMapper")).isSameAs(objectMapper);
+    }
+
+    @Test
+    void testUnknownUpstreamFieldsAreIgnored() throws JsonProcessingException {
+        final AuditionPost post = objectMapper.readValue(
+            "{\"userId\":1,\"id\":2,\"title\":\"Mock title\",\"tags\":[\"a\"],\"meta\":{\"views\":3}}",
+            AuditionPost.class);
+        assertThat(post).isEqualTo(AuditionPost.builder().userId(1).id(2).title("Mock title").build());
+
+        final AuditionPostComment comment = objectMapper.readValue(
+            "{\"postId\":2,\"id\":5,\"name\":\"Mock name\",\"likes\":7}", AuditionPostComment.class);
+        assertThat(comment.getPostId()).isEqualTo(2);
+        assertThat(comment.getId()).isEqualTo(5);
+        assertThat(comment.getName()).isEqualTo("Mock name");
+    }
+
+    @Test
+    void testNullAndEmptyValuesAreOmitted() throws JsonProcessingException {
+        final AuditionPostWithComments postWithComments = AuditionPostWithComments.builder()
+            .post(AuditionPost.builder().userId(1).id(2).title("Mock title").body("").build())
+            .comments(List.of())
+            .commentsComplete(true)
+            .build();
+
+        final JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(postWithComments));
+
+        assertThat(json.has("comments")).isFalse();
+        assertThat(json.get("commentsComplete").asBoolean()).isTrue();
+        assertThat(json.get("post").has("body")).isFalse();
+        assertThat(json.get("post").get("title").asText()).isEqualTo("Mock title");
+    }
+
+    private static MappingJackson2HttpMessageConverter jacksonConverter(
+        final List<HttpMessageConverter<?>> converters) {
+        return converters.stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(MappingJackson2HttpMessageConverter.class::cast)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -2,6 +2,9 @@ package com.audition.integration;
 
 import com.audition.common.exception.SystemException;
 import com.audition.model.AuditionPostComment;
+import com.audition.model.RawJsonArray;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,15 +13,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +36,9 @@ class AuditionCommentIntegrationClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
 
@@ -135,5 +145,34 @@ class AuditionCommentIntegrationClientTest {
         assertTrue(exception.getMessage().contains("400 BAD_REQUEST"));
     }
 
+    @Test
+    void testGetCommentsJsonKeepsUpstreamBytes() {
+        final byte[] json = "[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+        when(restTemplate.exchange(any(RequestEntity.class), eq(byte[].class))).thenReturn(
+            new ResponseEntity<>(json, HttpStatus.OK));
+
+        final RawJsonArray result = auditionCommentIntegrationClient.getCommentsJson();
+
+        assertThat(result.getContent()).isSameAs(json);
+        assertThat(result.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetCommentsJsonRejectsUnexpectedPayload() {
+        when(restTemplate.exchange(any(RequestEntity.class), eq(byte[].class))).thenReturn(
+            new ResponseEntity<>("{}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+
+        final SystemException exception = assertThrows(SystemException.class, () -> auditionCommentIntegrationClient.getCommentsJson());
+        assertEquals(502, exception.getStatusCode());
+    }
 
+    @Test
+    void testGetCommentsJsonEmptyArrayReturnsNotFound() {
+        when(restTemplate.exchange(any(RequestEntity.class), eq(byte[].class))).thenReturn(
+            new ResponseEntity<>("[]".getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+
+        final SystemException exception = assertThrows(SystemException.class,
+            () -> auditionCommentIntegrationClient.getCommentsJson());
+        assertEquals(404, exception.getStatusCode());
+    }
 }
@@ -2,6 +2,9 @@ package com.audition.integration;
 
 import com.audition.common.exception.SystemException;
 import com.audition.model.AuditionPost;
+import com.audition.model.RawJsonArray;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -10,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -20,6 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +36,9 @@ class AuditionPostIntegrationClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private AuditionPostIntegrationClient auditionPostIntegrationClient;
 
@@ -107,5 +116,24 @@ class AuditionPostIntegrationClientTest {
         assertThrows(SystemException.class, () -> auditionPostIntegrationClient.getPostById("1"));
     }
 
+    @Test
+    void testGetPostsJsonKeepsUpstreamBytes() {
+        final byte[] json = "[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+        when(restTemplate.exchange(any(RequestEntity.class), eq(byte[].class))).thenReturn(
+            new ResponseEntity<>(json, HttpStatus.OK));
+
+        final RawJsonArray result = auditionPostIntegrationClient.getPostsJson();
+
+        assertThat(result.getContent()).isSameAs(json);
+        assertThat(result.getSize()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetPostsJsonRejectsUnexpectedPayload() {
+        when(restTemplate.exchange(any(RequestEntity.class), eq(byte[].class))).thenReturn(
+            new ResponseEntity<>("{}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
 
+        final SystemException exception = assertThrows(SystemException.class, () -> auditionPostIntegrationClient.getPostsJson());
+        assertEquals(502, exception.getStatusCode());
+    }
 }
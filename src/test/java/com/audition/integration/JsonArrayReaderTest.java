@@ -0,0 +1,82 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonArrayReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testForEachElementReadsEveryElementInOrder() throws IOException {
+        final List<AuditionPostComment> comments = new ArrayList<>();
+        final int count = JsonArrayReader.forEachElement(objectMapper,
+            body("[{\"postId\":1,\"id\":1,\"name\":\"a\",\"email\":\"a@x\",\"body\":\"b1\"},"
+                + "{\"postId\":1,\"id\":2,\"name\":\"b\",\"email\":\"b@x\",\"body\":\"b2\"}]"),
+            AuditionPostComment.class, comments::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(comments).extracting(AuditionPostComment::getId).containsExactly(1, 2);
+    }
+
+    @Test
+    void testForEachElementEmptyArray() throws IOException {
+        final List<AuditionPostComment> comments = new ArrayList<>();
+        assertThat(JsonArrayReader.forEachElement(objectMapper, body("[]"), AuditionPostComment.class,
+            comments::add)).isZero();
+        assertThat(comments).isEmpty();
+    }
+
+    @Test
+    void testForEachElementRejectsTruncatedArray() {
+        final List<AuditionPostComment> comments = new ArrayList<>();
+        for (final String json : List.of("[{\"id\":1},{\"id\":2}", "[{\"id\":1},{\"id\":", "[{\"id\":1},2]",
+            "[{\"id\":1}] {}")) {
+            final SystemException exception = assertThrows(SystemException.class,
+                () -> JsonArrayReader.forEachElement(objectMapper, body(json), AuditionPostComment.class,
+                    comments::add));
+            assertThat(exception.getStatusCode()).isEqualTo(502);
+        }
+    }
+
+    @Test
+    void testForEachElementRejectsNonArrayPayload() {
+        final SystemException exception = assertThrows(SystemException.class,
+            () -> JsonArrayReader.forEachElement(objectMapper, body("{\"id\":1}"), AuditionPostComment.class,
+                comment -> {
+                }));
+        assertThat(exception.getStatusCode()).isEqualTo(502);
+    }
+
+    @Test
+    void testCountObjectsSkipsNestedContent() {
+        final byte[] json = "[ {\"id\":1,\"tags\":[\"a\",{\"b\":[]}]},\n {\"id\":2} ]"
+            .getBytes(StandardCharsets.UTF_8);
+
+        assertThat(JsonArrayReader.countObjects(objectMapper, json)).isEqualTo(2);
+    }
+
+    @Test
+    void testCountObjectsRejectsOtherShapes() {
+        for (final String json : List.of("{\"id\":1}", "[1,2]", "[{\"id\":1}", "[{}] []", "not json")) {
+            final SystemException exception = assertThrows(SystemException.class,
+                () -> JsonArrayReader.countObjects(objectMapper, json.getBytes(StandardCharsets.UTF_8)));
+            assertThat(exception.getStatusCode()).isEqualTo(502);
+        }
+    }
+
+    private static InputStream body(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveAuditionCommentIntegrationClientTest {
+
+    private static final String COMMENTS = "[{\"postId\":1,\"id\":1,\"name\":\"Mock title1\",\"email\":\"moch@email.com\","
+        + "\"body\":\"Mock description comment1\"}]";
+
+    @Test
+    void testGetCommentsForPost() {
+        StepVerifier.create(client(HttpStatus.OK, COMMENTS).getCommentsForPost(1))
+            .expectNextMatches(comment -> comment.getPostId() == 1)
+            .verifyComplete();
+    }
+
+    @Test
+    void testGetCommentsForPostEmptyReturnsSystemException() {
+        StepVerifier.create(client(HttpStatus.OK, "[]").getCommentsForPost(1))
+            .expectErrorMatches(e -> e instanceof SystemException systemException
+                && systemException.getStatusCode() == HttpStatus.NOT_FOUND.value())
+            .verify();
+    }
+
+    @Test
+    void testGetCommentsNotFound() {
+        StepVerifier.create(client(HttpStatus.NOT_FOUND, "{}").getComments(Map.of("postId", 1)))
+            .expectErrorMatches(e -> e instanceof SystemException systemException
+                && systemException.getStatusCode() == HttpStatus.NOT_FOUND.value())
+            .verify();
+    }
+
+    @Test
+    void testGetCommentsBadRequest() {
+        StepVerifier.create(client(HttpStatus.BAD_REQUEST, "{}").getComments(Map.of("postId", 1)))
+            .expectErrorMatches(e -> e instanceof SystemException systemException
+                && systemException.getStatusCode() == HttpStatus.BAD_REQUEST.value())
+            .verify();
+    }
+
+    private ReactiveAuditionCommentIntegrationClient client(final HttpStatus status, final String body) {
+        final WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build()))
+            .build();
+        final ReactiveAuditionCommentIntegrationClient client = new ReactiveAuditionCommentIntegrationClient();
+        ReflectionTestUtils.setField(client, "auditionWebClient", webClient);
+        return client;
+    }
+}
@@ -0,0 +1,64 @@
+package com.audition.integration;
+
+import com.audition.common.exception.SystemException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveAuditionPostIntegrationClientTest {
+
+    private static final String POSTS = "[{\"userId\":1,\"id\":1,\"title\":\"Mock title1\",\"body\":\"Mock body1\"},"
+        + "{\"userId\":1,\"id\":2,\"title\":\"Mock title2\",\"body\":\"Mock body2\"}]";
+    private static final String POST = "{\"userId\":1,\"id\":1,\"title\":\"Mock title1\",\"body\":\"Mock body1\"}";
+
+    @Test
+    void testGetPosts() {
+        StepVerifier.create(client(HttpStatus.OK, POSTS).getPosts(Map.of("userId", 1)))
+            .expectNextMatches(post -> post.getId() == 1)
+            .expectNextMatches(post -> post.getId() == 2)
+            .verifyComplete();
+    }
+
+    @Test
+    void testGetPostById() {
+        StepVerifier.create(client(HttpStatus.OK, POST).getPostById("1"))
+            .expectNextMatches(post -> "Mock title1".equals(post.getTitle()))
+            .verifyComplete();
+    }
+
+    @Test
+    void testGetPostByIdNotFound() {
+        StepVerifier.create(client(HttpStatus.NOT_FOUND, "{}").getPostById("1"))
+            .expectErrorMatches(e -> e instanceof SystemException systemException
+                && systemException.getStatusCode() == HttpStatus.NOT_FOUND.value()
+                && "Resource Not Found".equals(systemException.getTitle()))
+            .verify();
+    }
+
+    @Test
+    void testGetPostsBadRequest() {
+        StepVerifier.create(client(HttpStatus.BAD_REQUEST, "{}").getPosts(Map.of()))
+            .expectErrorMatches(e -> e instanceof SystemException systemException
+                && systemException.getStatusCode() == HttpStatus.BAD_REQUEST.value())
+            .verify();
+    }
+
+    private ReactiveAuditionPostIntegrationClient client(final HttpStatus status, final String body) {
+        final WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> Mono.just(ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build()))
+            .build();
+        final ReactiveAuditionPostIntegrationClient client = new ReactiveAuditionPostIntegrationClient();
+        ReflectionTestUtils.setField(client, "auditionWebClient", webClient);
+        return client;
+    }
+}
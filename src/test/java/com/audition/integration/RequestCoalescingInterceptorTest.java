@@ -0,0 +1,105 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RequestCoalescingInterceptorTest {
+
+    private static final URI POST_URI = URI.create("https://jsonplaceholder.typicode.com/posts/1");
+    private static final byte[] POST_BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescingInterceptor interceptor = new RequestCoalescingInterceptor(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentIdenticalCallsShareOneUpstreamCall() throws Exception {
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ClientHttpRequestExecution execution = (request, body) -> {
+            executions.incrementAndGet();
+            started.countDown();
+            awaitLatch(release);
+            return new MockClientHttpResponse(POST_BODY, HttpStatus.OK);
+        };
+
+        final Future<byte[]> leader = executor.submit(() -> call(execution));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final Future<byte[]> follower = executor.submit(() -> call(execution));
+        while (meterRegistry.counter("audition.upstream.coalesced").count() < 1) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(POST_BODY);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(POST_BODY);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testSequentialCallsAreNotCoalesced() throws IOException {
+        final AtomicInteger executions = new AtomicInteger();
+        final ClientHttpRequestExecution execution = (request, body) -> {
+            executions.incrementAndGet();
+            return new MockClientHttpResponse(POST_BODY, HttpStatus.OK);
+        };
+
+        call(execution);
+        call(execution);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("audition.upstream.coalesced").count()).isZero();
+    }
+
+    @Test
+    void testFailureIsPropagated() {
+        final ClientHttpRequestExecution execution = (request, body) -> {
+            throw new IOException("Connection reset");
+        };
+
+        assertThrows(IOException.class, () -> call(execution));
+    }
+
+    private byte[] call(final ClientHttpRequestExecution execution) throws IOException {
+        final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, POST_URI);
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution)) {
+            return StreamUtils.copyToByteArray(response.getBody());
+        }
+    }
+
+    private static void awaitLatch(final CountDownLatch latch) throws IOException {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.audition.integration;
+
+import com.audition.configuration.RevalidationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamRevalidationInterceptorTest {
+
+    private static final URI POST_URI = URI.create("https://jsonplaceholder.typicode.com/posts/1");
+    private static final byte[] POST_BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UPDATED_BODY = "{\"id\":1,\"title\":\"updated\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String ETAG = "\"v1\"";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<MockClientHttpRequest> refreshRequests = new CopyOnWriteArrayList<>();
+    private UpstreamRevalidationInterceptor interceptor;
+
+    @AfterEach
+    void tearDown() {
+        if (interceptor != null) {
+            interceptor.close();
+        }
+    }
+
+    @Test
+    void testFreshResponseIsServedWithoutUpstreamCall() throws IOException {
+        interceptor = interceptor(Duration.ofMinutes(1), Duration.ofMinutes(1), HttpStatus.OK, POST_BODY);
+        final AtomicInteger executions = new AtomicInteger();
+
+        assertThat(call(upstream(executions, POST_BODY))).isEqualTo(POST_BODY);
+        assertThat(call(upstream(executions, POST_BODY))).isEqualTo(POST_BODY);
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("fresh")).isEqualTo(1);
+    }
+
+    @Test
+    void testStaleResponseIsServedAndRevalidatedInBackground() throws Exception {
+        interceptor = interceptor(Duration.ZERO, Duration.ofMinutes(1), HttpStatus.OK, UPDATED_BODY);
+        final AtomicInteger executions = new AtomicInteger();
+
+        call(upstream(executions, POST_BODY));
+        assertThat(call(upstream(executions, POST_BODY))).isEqualTo(POST_BODY);
+        awaitCount("modified");
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(refreshRequests).hasSize(1);
+        assertThat(refreshRequests.get(0).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo(ETAG);
+        assertThat(call(upstream(executions, POST_BODY))).isEqualTo(UPDATED_BODY);
+    }
+
+    @Test
+    void testNotModifiedRenewsStoredResponse() throws Exception {
+        interceptor = interceptor(Duration.ofMillis(200), Duration.ofMinutes(1), HttpStatus.NOT_MODIFIED, new byte[0]);
+        final AtomicInteger executions = new AtomicInteger();
+
+        call(upstream(executions, POST_BODY));
+        TimeUnit.MILLISECONDS.sleep(250);
+        assertThat(call(upstream(executions, POST_BODY))).isEqualTo(POST_BODY);
+        awaitCount("not_modified");
+
+        assertThat(call(upstream(executions, POST_BODY))).isEqualTo(POST_BODY);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("fresh")).isEqualTo(1);
+    }
+
+    @Test
+    void testExpiredResponseIsRevalidatedSynchronously() throws IOException {
+        interceptor = interceptor(Duration.ZERO, Duration.ZERO, HttpStatus.OK, POST_BODY);
+        final AtomicInteger executions = new AtomicInteger();
+        final List<String> validators = new CopyOnWriteArrayList<>();
+        final ClientHttpRequestExecution notModified = (request, body) -> {
+            executions.incrementAndGet();
+            validators.add(request.getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+            return new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED);
+        };
+
+        call(upstream(executions, POST_BODY));
+
+        assertThat(call(notModified)).isEqualTo(POST_BODY);
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(validators).containsExactly(ETAG);
+        assertThat(refreshRequests).isEmpty();
+    }
+
+    @Test
+    void testErrorResponsesAreNotStored() throws IOException {
+        interceptor = interceptor(Duration.ofMinutes(1), Duration.ofMinutes(1), HttpStatus.OK, POST_BODY);
+        final AtomicInteger executions = new AtomicInteger();
+        final ClientHttpRequestExecution failing = (request, body) -> {
+            executions.incrementAndGet();
+            return new MockClientHttpResponse(new byte[0], HttpStatus.INTERNAL_SERVER_ERROR);
+        };
+
+        call(failing);
+        call(failing);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private UpstreamRevalidationInterceptor interceptor(final Duration freshFor, final Duration maxStale,
+        final HttpStatus refreshStatus, final byte[] refreshBody) {
+        final RevalidationProperties properties = new RevalidationProperties();
+        properties.setFreshFor(freshFor);
+        properties.setMaxStale(maxStale);
+        properties.setJitter(Duration.ZERO);
+        final ClientHttpRequestFactory refreshFactory = (uri, method) -> {
+            final MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response(refreshBody, refreshStatus));
+            refreshRequests.add(request);
+            return request;
+        };
+        return new UpstreamRevalidationInterceptor(properties, refreshFactory, meterRegistry);
+    }
+
+    private static ClientHttpRequestExecution upstream(final AtomicInteger executions, final byte[] body) {
+        return (request, requestBody) -> {
+            executions.incrementAndGet();
+            return response(body, HttpStatus.OK);
+        };
+    }
+
+    private static MockClientHttpResponse response(final byte[] body, final HttpStatus status) {
+        final MockClientHttpResponse response = new MockClientHttpResponse(body, status);
+        response.getHeaders().setETag(ETAG);
+        return response;
+    }
+
+    private byte[] call(final ClientHttpRequestExecution execution) throws IOException {
+        final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, POST_URI);
+        try (ClientHttpResponse response = interceptor.intercept(request, new byte[0], execution)) {
+            return StreamUtils.copyToByteArray(response.getBody());
+        }
+    }
+
+    private double count(final String result) {
+        return meterRegistry.counter("audition.upstream.revalidation", "result", result).count();
+    }
+
+    private void awaitCount(final String result) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < 1 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertThat(count(result)).isEqualTo(1);
+    }
+}
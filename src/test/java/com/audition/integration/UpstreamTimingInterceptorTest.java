@@ -0,0 +1,48 @@
+package com.audition.integration;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamTimingInterceptorTest {
+
+    private static final URI POST_URI = URI.create("https://jsonplaceholder.typicode.com/posts/1");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UpstreamTimingInterceptor interceptor = new UpstreamTimingInterceptor(meterRegistry);
+
+    @Test
+    void testRecordsStatusAndOutcome() throws IOException {
+        interceptor.intercept(new MockClientHttpRequest(HttpMethod.GET, POST_URI), new byte[0],
+            (request, body) -> new MockClientHttpResponse("{}".getBytes(StandardCharsets.UTF_8),
+                HttpStatus.NOT_FOUND));
+
+        final Timer timer = meterRegistry.find(UpstreamTimingInterceptor.METRIC_NAME)
+            .tags("status", "404", "outcome", "CLIENT_ERROR", "host", "jsonplaceholder.typicode.com").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRecordsIoErrors() {
+        assertThrows(IOException.class, () -> interceptor.intercept(
+            new MockClientHttpRequest(HttpMethod.GET, POST_URI), new byte[0], (request, body) -> {
+                throw new IOException("connection reset");
+            }));
+
+        final Timer timer = meterRegistry.find(UpstreamTimingInterceptor.METRIC_NAME)
+            .tags("status", "IO_ERROR", "exception", "IOException").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
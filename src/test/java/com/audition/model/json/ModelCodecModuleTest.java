@@ -0,0 +1,60 @@
+package com.audition.model.json;
+
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ModelCodecModuleTest {
+
+    private static final List<AuditionPost> POSTS = List.of(new AuditionPost(1, 1, "title1", "body1"),
+        new AuditionPost(1, 2, "", null));
+    private static final List<AuditionPostComment> COMMENTS = List.of(
+        new AuditionPostComment(1, 1, "name1", "a@b.c", "body \"quoted\"\n"),
+        new AuditionPostComment(1, 2, null, "", "body2"));
+
+    @Test
+    void testWritesTheSameJsonAsReflectiveBinding() throws JsonProcessingException {
+        for (final Include inclusion : List.of(Include.ALWAYS, Include.NON_NULL, Include.NON_EMPTY)) {
+            final ObjectMapper reflective = new ObjectMapper().setSerializationInclusion(inclusion);
+            final ObjectMapper codecs = new ObjectMapper().setSerializationInclusion(inclusion)
+                .registerModule(new ModelCodecModule());
+
+            assertThat(codecs.writeValueAsString(POSTS)).isEqualTo(reflective.writeValueAsString(POSTS));
+            assertThat(codecs.writeValueAsString(COMMENTS)).isEqualTo(reflective.writeValueAsString(COMMENTS));
+        }
+    }
+
+    @Test
+    void testReadsWhatReflectiveBindingReads() throws IOException {
+        final ObjectMapper codecs = new ObjectMapper().registerModule(new ModelCodecModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        final String json = "[{\"postId\":\"3\",\"id\":7,\"extra\":{\"nested\":[1,2]},\"name\":null,"
+            + "\"email\":\"e@mail\",\"body\":\"b\\u00e9\"},{}]";
+
+        final AuditionPostComment[] comments = codecs.readValue(json, AuditionPostComment[].class);
+
+        assertThat(comments).containsExactly(new AuditionPostComment(3, 7, null, "e@mail", "b\u00e9"),
+            new AuditionPostComment(0, 0, null, null, null));
+        final String posts = new ObjectMapper().writeValueAsString(POSTS);
+        assertThat(codecs.readValue(posts, AuditionPost[].class)).containsExactlyElementsOf(POSTS);
+    }
+
+    @Test
+    void testRejectsNonObjectValues() {
+        final ObjectMapper codecs = new ObjectMapper().registerModule(new ModelCodecModule());
+
+        assertThrows(MismatchedInputException.class, () -> codecs.readValue("[1]", AuditionPost[].class));
+        assertThrows(MismatchedInputException.class,
+            () -> codecs.readValue("{\"id\":{\"a\":1}}", AuditionPost.class));
+    }
+}
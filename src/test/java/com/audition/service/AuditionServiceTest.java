@@ -1,19 +1,43 @@
 package com.audition.service;
 
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.AggregationProperties;
+import com.audition.configuration.BatchLookupProperties;
+import com.audition.configuration.PaginationProperties;
 import com.audition.integration.AuditionCommentIntegrationClient;
 import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPage;
+import com.audition.model.AuditionPageRequest;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
 import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import com.audition.service.replica.LocalReplica;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -26,6 +50,24 @@ class AuditionServiceTest {
     @Mock
     private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
 
+    @Spy
+    private Executor upstreamExecutor = new SyncTaskExecutor();
+
+    @Spy
+    private AggregationProperties aggregationProperties = new AggregationProperties();
+
+    @Spy
+    private BatchLookupProperties batchLookupProperties = new BatchLookupProperties();
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private LocalReplica localReplica;
+
     @InjectMocks
     private AuditionService auditionService;
 
@@ -54,6 +96,25 @@ class AuditionServiceTest {
         assertThat(postsList.size()).isEqualTo(2);
     }
 
+    @Test
+    void testGetPostsFromReplica() {
+        final Map<String, Object> queryParam = Map.of("userId", 1);
+        when(localReplica.findPosts(queryParam)).thenReturn(Optional.of(List.of(POST_1)));
+
+        assertThat(auditionService.getPosts(queryParam)).containsExactly(POST_1);
+        verify(auditionPostIntegrationClient, never()).getPosts(queryParam);
+    }
+
+    @Test
+    void testGetCommentsFromReplica() {
+        final AuditionPostComment comment = AuditionPostComment.builder().postId(1).id(1).build();
+        final Map<String, Object> filters = Map.of("postId", 1);
+        when(localReplica.findComments(filters)).thenReturn(Optional.of(List.of(comment)));
+
+        assertThat(auditionService.getComments(filters)).containsExactly(comment);
+        verify(auditionCommentIntegrationClient, never()).getComments(filters);
+    }
+
     @Test
     void testGetCommentsByPostId() {
         final AuditionPostComment postComment1 = AuditionPostComment.builder().postId(1).id(1).name("Post comments")
@@ -77,4 +138,163 @@ class AuditionServiceTest {
         final List<AuditionPostComment> list = auditionService.getComments(queryParams);
         assertThat(list).isNotNull();
     }
+
+    @Test
+    void testGetPostWithComments() {
+        final AuditionPostComment postComment1 = AuditionPostComment.builder().postId(1).id(1).name("Post comments")
+            .email("mock@mock3.com").body("comment by post ID").build();
+        when(auditionPostIntegrationClient.getPostById("1")).thenReturn(POST_1);
+        when(auditionCommentIntegrationClient.getCommentsForPost(1)).thenReturn(List.of(postComment1));
+        final AuditionPostWithComments result = auditionService.getPostWithComments(1);
+        assertThat(result.getPost()).isEqualTo(POST_1);
+        assertThat(result.getComments()).hasSize(1);
+        assertThat(result.isCommentsComplete()).isTrue();
+    }
+
+    @Test
+    void testGetPostWithCommentsWithoutComments() {
+        when(auditionPostIntegrationClient.getPostById("1")).thenReturn(POST_1);
+        when(auditionCommentIntegrationClient.getCommentsForPost(1)).thenThrow(
+            new SystemException("Cannot find comments with Post id 1", "Resource Not Found", 404));
+        final AuditionPostWithComments result = auditionService.getPostWithComments(1);
+        assertThat(result.getComments()).isEmpty();
+        assertThat(result.isCommentsComplete()).isTrue();
+    }
+
+    @Test
+    void testGetPostWithCommentsOmitsFailedComments() {
+        when(auditionPostIntegrationClient.getPostById("1")).thenReturn(POST_1);
+        when(auditionCommentIntegrationClient.getCommentsForPost(1)).thenThrow(
+            new SystemException("Bad Request", "System Error", HttpStatus.BAD_REQUEST.value()));
+        final AuditionPostWithComments result = auditionService.getPostWithComments(1);
+        assertThat(result.getPost()).isEqualTo(POST_1);
+        assertThat(result.isCommentsComplete()).isFalse();
+    }
+
+    @Test
+    void testGetPostWithCommentsPostNotFound() {
+        when(auditionPostIntegrationClient.getPostById("1")).thenThrow(
+            new SystemException("Cannot find a Post with given id 1", "Resource Not Found", 404));
+        when(auditionCommentIntegrationClient.getCommentsForPost(1)).thenReturn(List.of());
+        assertThrows(SystemException.class, () -> auditionService.getPostWithComments(1));
+    }
+
+    @Test
+    void testGetPostWithCommentsRejectedByExecutor() {
+        doThrow(new RejectedExecutionException("queue full")).when(upstreamExecutor).execute(any());
+        final SystemException exception = assertThrows(SystemException.class,
+            () -> auditionService.getPostWithComments(1));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    void testGetPostWithCommentsOmitsRejectedComments() {
+        when(auditionPostIntegrationClient.getPostById("1")).thenReturn(POST_1);
+        doCallRealMethod().doThrow(new RejectedExecutionException("queue full")).when(upstreamExecutor)
+            .execute(any());
+        final AuditionPostWithComments result = auditionService.getPostWithComments(1);
+        assertThat(result.getPost()).isEqualTo(POST_1);
+        assertThat(result.isCommentsComplete()).isFalse();
+    }
+
+    @Test
+    void testGetPostsByIdsKeepsOrderAndReportsErrorsPerId() {
+        when(auditionPostIntegrationClient.getPostById("1")).thenReturn(POST_1);
+        when(auditionPostIntegrationClient.getPostById("7")).thenThrow(
+            new SystemException("Cannot find a Post with given id 7", "Resource Not Found", 404));
+        final List<AuditionPostBatchEntry> entries = auditionService.getPostsByIds(List.of("7", "1", "x", "1"));
+        assertThat(entries).extracting(AuditionPostBatchEntry::getId).containsExactly("7", "1", "x");
+        assertThat(entries).extracting(AuditionPostBatchEntry::getStatus).containsExactly(404, 200, 400);
+        assertThat(entries.get(1).getPost()).isEqualTo(POST_1);
+    }
+
+    @Test
+    void testGetPostsByIdsReportsUpstreamServerErrorPerId() {
+        when(auditionPostIntegrationClient.getPostById("1")).thenReturn(POST_1);
+        when(auditionPostIntegrationClient.getPostById("2")).thenThrow(
+            new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+        final List<AuditionPostBatchEntry> entries = auditionService.getPostsByIds(List.of("2", "1"));
+        assertThat(entries).extracting(AuditionPostBatchEntry::getStatus).containsExactly(502, 200);
+        assertThat(entries.get(1).getPost()).isEqualTo(POST_1);
+    }
+
+    @Test
+    void testGetPostsByIdsReportsPostListFailureForEveryId() {
+        batchLookupProperties.setListThreshold(1);
+        when(auditionPostIntegrationClient.getPosts(new ConcurrentHashMap<>())).thenThrow(
+            new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        final List<AuditionPostBatchEntry> entries = auditionService.getPostsByIds(List.of("2", "1"));
+        assertThat(entries).extracting(AuditionPostBatchEntry::getStatus).containsExactly(502, 502);
+    }
+
+    @Test
+    void testGetPostsByIdsUsesPostListForLargeBatches() {
+        batchLookupProperties.setListThreshold(1);
+        final AuditionPost post2 = AuditionPost.builder().userId(1).id(2).title("Mock title2").build();
+        when(auditionPostIntegrationClient.getPosts(new ConcurrentHashMap<>())).thenReturn(List.of(POST_1, post2));
+        final List<AuditionPostBatchEntry> entries = auditionService.getPostsByIds(List.of("2", "1", "3"));
+        assertThat(entries).extracting(AuditionPostBatchEntry::getStatus).containsExactly(200, 200, 404);
+        assertThat(entries.get(0).getPost()).isEqualTo(post2);
+    }
+
+    @Test
+    void testGetPostsByIdsRejectsTooManyIds() {
+        batchLookupProperties.setMaxIds(1);
+        assertThrows(SystemException.class, () -> auditionService.getPostsByIds(List.of("1", "2")));
+    }
+
+    @Test
+    void testGetPostsPage() {
+        final AuditionPost post3 = AuditionPost.builder().userId(2).id(3).title("Mock title3").build();
+        when(auditionPostIntegrationClient.getPosts(new ConcurrentHashMap<>())).thenReturn(
+            List.of(POST_1, POST_2, post3));
+        final AuditionPage<Object> page = auditionService.getPosts(new ConcurrentHashMap<>(),
+            AuditionPageRequest.builder().page(2).size(2).build());
+        assertThat(page.getItems()).containsExactly(post3);
+        assertThat(page.getTotalCount()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void testGetPostsPageBeyondLastIsEmpty() {
+        when(auditionPostIntegrationClient.getPosts(new ConcurrentHashMap<>())).thenReturn(List.of(POST_1, POST_2));
+        final AuditionPage<Object> page = auditionService.getPosts(new ConcurrentHashMap<>(),
+            AuditionPageRequest.builder().page(5).build());
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getSize()).isEqualTo(paginationProperties.getDefaultSize());
+    }
+
+    @Test
+    void testGetPostsPageSizeIsCapped() {
+        paginationProperties.setMaxSize(1);
+        when(auditionPostIntegrationClient.getPosts(new ConcurrentHashMap<>())).thenReturn(List.of(POST_1, POST_2));
+        final AuditionPage<Object> page = auditionService.getPosts(new ConcurrentHashMap<>(),
+            AuditionPageRequest.builder().size(50).build());
+        assertThat(page.getItems()).containsExactly(POST_1);
+        assertThat(page.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetCommentsProjectsFields() {
+        final Map<String, Object> queryParams = new ConcurrentHashMap<>();
+        queryParams.put("postId", 1);
+        when(auditionCommentIntegrationClient.getComments(queryParams)).thenReturn(List.of(
+            AuditionPostComment.builder().postId(1).id(3).name("Mock name").email("mock@mock.com").body("Mock")
+                .build()));
+        final AuditionPage<Object> page = auditionService.getComments(queryParams,
+            AuditionPageRequest.builder().fields(List.of("id", " email")).build());
+        final ObjectNode comment = (ObjectNode) page.getItems().get(0);
+        assertThat(comment.size()).isEqualTo(2);
+        assertThat(comment.get("id").asInt()).isEqualTo(3);
+        assertThat(comment.get("email").asText()).isEqualTo("mock@mock.com");
+    }
+
+    @Test
+    void testGetCommentsRejectsUnknownFields() {
+        when(auditionCommentIntegrationClient.getComments(new ConcurrentHashMap<>())).thenReturn(List.of());
+        final SystemException exception = assertThrows(SystemException.class,
+            () -> auditionService.getComments(new ConcurrentHashMap<>(),
+                AuditionPageRequest.builder().fields(List.of("password")).build()));
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
 }
@@ -0,0 +1,64 @@
+package com.audition.service;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.AggregationProperties;
+import com.audition.configuration.BatchLookupProperties;
+import com.audition.integration.ReactiveAuditionCommentIntegrationClient;
+import com.audition.integration.ReactiveAuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
+import java.util.List;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@NoArgsConstructor
+class ReactiveAuditionServiceTest {
+
+    private static final AuditionPost POST_3 = AuditionPost.builder().userId(1).id(3).title("Mock title3").build();
+
+    @Mock
+    private ReactiveAuditionPostIntegrationClient reactivePostIntegrationClient;
+
+    @Mock
+    private ReactiveAuditionCommentIntegrationClient reactiveCommentIntegrationClient;
+
+    @Spy
+    private AggregationProperties aggregationProperties = new AggregationProperties();
+
+    @Spy
+    private BatchLookupProperties batchLookupProperties = new BatchLookupProperties();
+
+    @InjectMocks
+    private ReactiveAuditionService reactiveAuditionService;
+
+    @Test
+    void testGetPostsByIdsReportsUpstreamServerErrorPerId() {
+        when(reactivePostIntegrationClient.getPostById("1")).thenReturn(Mono.error(
+            WebClientResponseException.create(HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error", null,
+                null, null)));
+        when(reactivePostIntegrationClient.getPostById("2")).thenReturn(Mono.error(
+            SystemException.expected("Cannot find a Post with id 2", "Resource Not Found",
+                HttpStatus.NOT_FOUND.value())));
+        when(reactivePostIntegrationClient.getPostById("3")).thenReturn(Mono.just(POST_3));
+
+        final List<AuditionPostBatchEntry> entries = reactiveAuditionService.getPostsByIds(List.of("1", "2", "3"))
+            .collectList().block();
+
+        assertThat(entries).extracting(AuditionPostBatchEntry::getId).containsExactly("1", "2", "3");
+        assertThat(entries).extracting(AuditionPostBatchEntry::getStatus).containsExactly(
+            HttpStatus.BAD_GATEWAY.value(), HttpStatus.NOT_FOUND.value(), HttpStatus.OK.value());
+        assertThat(entries.get(0).getTitle()).isEqualTo("Bad Gateway");
+        assertThat(entries.get(2).getPost()).isEqualTo(POST_3);
+    }
+}
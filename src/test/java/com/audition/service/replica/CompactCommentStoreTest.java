@@ -0,0 +1,38 @@
+package com.audition.service.replica;
+
+import com.audition.model.AuditionPostComment;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactCommentStoreTest {
+
+    @Test
+    void testRowsRoundTrip() {
+        final AuditionPostComment ascii = AuditionPostComment.builder().postId(7).id(1).name("name")
+            .email("a@b.c").body("body").build();
+        final AuditionPostComment unicode = AuditionPostComment.builder().postId(3).id(2).name("Zo\u00eb")
+            .email("\u65e5\u672c@example.jp").body("smile \ud83d\ude00").build();
+        final AuditionPostComment nulls = AuditionPostComment.builder().postId(7).id(3).name("").build();
+
+        final CompactCommentStore store = CompactCommentStore.of(List.of(ascii, unicode, nulls));
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.postIds()).containsExactly(7, 3, 7);
+        assertThat(store.get(1)).usingRecursiveComparison().isEqualTo(unicode);
+        assertThat(store.get(0)).usingRecursiveComparison().isEqualTo(ascii);
+        assertThat(store.get(2)).usingRecursiveComparison().isEqualTo(nulls);
+    }
+
+    @Test
+    void testTextIsStoredAsUtf8() {
+        final AuditionPostComment comment = AuditionPostComment.builder().postId(1).id(1).name("ab")
+            .email("\u00e9").body("\u65e5").build();
+
+        final CompactCommentStore store = CompactCommentStore.of(List.of(comment));
+
+        // 2 ints, 3 offsets and 2 + 2 + 3 text bytes
+        assertThat(store.payloadBytes()).isEqualTo(5L * Integer.BYTES + 7);
+    }
+}
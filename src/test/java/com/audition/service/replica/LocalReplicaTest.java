@@ -0,0 +1,113 @@
+package com.audition.service.replica;
+
+import com.audition.common.exception.SystemException;
+import com.audition.configuration.ReplicaProperties;
+import com.audition.integration.AuditionCommentIntegrationClient;
+import com.audition.integration.AuditionPostIntegrationClient;
+import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostComment;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@NoArgsConstructor
+class LocalReplicaTest {
+
+    private static final AuditionPost POST_1 = AuditionPost.builder().userId(2).id(1).build();
+    private static final AuditionPost POST_2 = AuditionPost.builder().userId(1).id(2).build();
+    private static final AuditionPost POST_3 = AuditionPost.builder().userId(2).id(3).build();
+    private static final AuditionPostComment COMMENT_1 = AuditionPostComment.builder().postId(3).id(1).build();
+    private static final AuditionPostComment COMMENT_2 = AuditionPostComment.builder().postId(1).id(2).build();
+    private static final AuditionPostComment COMMENT_3 = AuditionPostComment.builder().postId(3).id(3).build();
+
+    @Mock
+    private AuditionPostIntegrationClient auditionPostIntegrationClient;
+
+    @Mock
+    private AuditionCommentIntegrationClient auditionCommentIntegrationClient;
+
+    @Spy
+    private ReplicaProperties replicaProperties = new ReplicaProperties();
+
+    @InjectMocks
+    private LocalReplica localReplica;
+
+    @Test
+    void testQueriesGoUpstreamUntilLoaded() {
+        assertThat(localReplica.findPosts(Map.of())).isEmpty();
+        assertThat(localReplica.findComments(Map.of("postId", 1))).isEmpty();
+    }
+
+    @Test
+    void testPostsAreFilteredByUserIdAndId() {
+        load();
+
+        assertThat(localReplica.findPosts(Map.of())).contains(List.of(POST_1, POST_2, POST_3));
+        assertThat(localReplica.findPosts(Map.of("userId", 2))).contains(List.of(POST_1, POST_3));
+        assertThat(localReplica.findPosts(Map.of("id", "3"))).contains(List.of(POST_3));
+        assertThat(localReplica.findPosts(Map.of("userId", 1, "id", 3))).contains(List.of());
+        assertThat(localReplica.findPosts(Map.of("userId", 9))).contains(List.of());
+    }
+
+    @Test
+    void testCommentsAreFilteredByPostId() {
+        load();
+
+        assertThat(localReplica.findComments(Map.of("postId", 3)).orElseThrow())
+            .extracting(AuditionPostComment::getId).containsExactly(1, 3);
+        assertThat(localReplica.findComments(Map.of()).orElseThrow())
+            .extracting(AuditionPostComment::getId).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void testUnknownPostIdIsNotFoundAsUpstream() {
+        load();
+
+        final SystemException exception = assertThrows(SystemException.class,
+            () -> localReplica.findComments(Map.of("postId", 9)));
+        assertThat(exception.getStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void testUnsupportedFiltersGoUpstream() {
+        load();
+
+        assertThat(localReplica.findPosts(Map.of("title", "x"))).isEmpty();
+        assertThat(localReplica.findComments(Map.of("postId", "abc"))).isEmpty();
+    }
+
+    @Test
+    void testExpiredSnapshotIsNotServed() {
+        replicaProperties.setMaxAge(Duration.ZERO);
+        load();
+
+        assertThat(localReplica.findPosts(Map.of())).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load() {
+        doAnswer(invocation -> {
+            List.of(POST_1, POST_2, POST_3).forEach(invocation.getArgument(1, Consumer.class));
+            return 3;
+        }).when(auditionPostIntegrationClient).streamPosts(eq(Map.of()), any());
+        doAnswer(invocation -> {
+            List.of(COMMENT_1, COMMENT_2, COMMENT_3).forEach(invocation.getArgument(1, Consumer.class));
+            return 3;
+        }).when(auditionCommentIntegrationClient).streamComments(eq(Map.of()), any());
+        localReplica.refresh();
+    }
+}
@@ -1,9 +1,16 @@
 package com.audition.web;
 
 import com.audition.common.exception.SystemException;
+import com.audition.configuration.PassthroughProperties;
+import com.audition.model.AuditionPage;
+import com.audition.model.AuditionPageRequest;
 import com.audition.model.AuditionPost;
+import com.audition.model.AuditionPostBatchEntry;
 import com.audition.model.AuditionPostComment;
+import com.audition.model.AuditionPostWithComments;
+import com.audition.model.RawJsonArray;
 import com.audition.service.AuditionService;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -11,10 +18,19 @@ import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @NoArgsConstructor
@@ -24,6 +40,9 @@ class AuditionControllerTest {
     @Mock
     private AuditionService auditionService;
 
+    @Spy
+    private PassthroughProperties passthroughProperties = new PassthroughProperties();
+
     @InjectMocks
     private AuditionController auditionController;
 
@@ -46,8 +65,9 @@ class AuditionControllerTest {
     @Test
     void testGetPostsWithoutQueryParam() {
 
-        when(auditionService.getPosts(new ConcurrentHashMap<>())).thenReturn(List.of(POST_1, POST_2));
-        final List<AuditionPost> postsList = auditionController.getPosts(null, null);
+        when(auditionService.getPosts(eq(new ConcurrentHashMap<>()), any(AuditionPageRequest.class))).thenReturn(
+            unpaged(List.of(POST_1, POST_2)));
+        final List<?> postsList = auditionController.getPosts(null, null, null, null, null).getBody();
         assertThat(postsList).isNotNull();
         assertThat(postsList.size()).isEqualTo(2);
         assertThat(postsList.get(0)).isEqualTo(POST_1);
@@ -59,8 +79,9 @@ class AuditionControllerTest {
     void testGetPostsWithUserIdParam() {
         final Map<String, Object> queryParam = new ConcurrentHashMap<>();
         queryParam.put("userId", 1);
-        when(auditionService.getPosts(queryParam)).thenReturn(List.of(POST_1));
-        final List<AuditionPost> postsList = auditionController.getPosts(1, null);
+        when(auditionService.getPosts(eq(queryParam), any(AuditionPageRequest.class))).thenReturn(
+            unpaged(List.of(POST_1)));
+        final List<?> postsList = auditionController.getPosts(1, null, null, null, null).getBody();
         assertThat(postsList).isNotNull();
         assertThat(postsList.size()).isEqualTo(1);
         assertThat(postsList.get(0)).isEqualTo(POST_1);
@@ -71,8 +92,9 @@ class AuditionControllerTest {
 
         final Map<String, Object> queryParam = new ConcurrentHashMap<>();
         queryParam.put("id", 1);
-        when(auditionService.getPosts(queryParam)).thenReturn(List.of(POST_1));
-        final List<AuditionPost> postsList = auditionController.getPosts(null, 1);
+        when(auditionService.getPosts(eq(queryParam), any(AuditionPageRequest.class))).thenReturn(
+            unpaged(List.of(POST_1)));
+        final List<?> postsList = auditionController.getPosts(null, 1, null, null, null).getBody();
         assertThat(postsList).isNotNull();
         assertThat(postsList.size()).isEqualTo(1);
         assertThat(postsList.get(0)).isEqualTo(POST_1);
@@ -109,9 +131,97 @@ class AuditionControllerTest {
     void testGetComments() {
         final Map<String, Object> queryParam = new ConcurrentHashMap<>();
         queryParam.put("postId", 1);
-        when(auditionService.getComments(queryParam)).thenReturn(List.of(POST_COMMENT_1, POST_COMMENT_2));
-        final List<AuditionPostComment> list = auditionController.getComments(1);
+        when(auditionService.getComments(eq(queryParam), any(AuditionPageRequest.class))).thenReturn(
+            unpaged(List.of(POST_COMMENT_1, POST_COMMENT_2)));
+        final List<?> list = auditionController.getComments(1, null, null, null).getBody();
         assertThat(list).isNotNull();
         assertThat(list.size()).isEqualTo(2);
     }
+
+    @Test
+    void testGetPostWithComments() {
+        when(auditionService.getPostWithComments(1)).thenReturn(AuditionPostWithComments.builder().post(POST_1)
+            .comments(List.of(POST_COMMENT_1, POST_COMMENT_2)).commentsComplete(true).build());
+        final AuditionPostWithComments result = auditionController.getPostWithComments(1);
+        assertThat(result.getPost()).isEqualTo(POST_1);
+        assertThat(result.getComments()).hasSize(2);
+    }
+
+    @Test
+    void testGetPostWithCommentsByInvalidPostId() {
+        assertThrows(SystemException.class, () -> auditionController.getPostWithComments(0));
+    }
+
+    @Test
+    void testGetPostsByIds() {
+        final List<String> ids = List.of("1", "2");
+        when(auditionService.getPostsByIds(ids)).thenReturn(List.of(
+            AuditionPostBatchEntry.builder().id("1").status(200).post(POST_1).build(),
+            AuditionPostBatchEntry.builder().id("2").status(404).build()));
+        final List<AuditionPostBatchEntry> entries = auditionController.getPostsByIds(ids);
+        assertThat(entries).hasSize(2);
+    }
+
+    @Test
+    void testGetPostsByEmptyIds() {
+        assertThrows(SystemException.class, () -> auditionController.getPostsByIds(List.of()));
+    }
+
+    @Test
+    void testGetPostsPagedAddsLinkAndTotalCountHeaders() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.setQueryString("page=2&size=1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            when(auditionService.getPosts(eq(new ConcurrentHashMap<>()), any(AuditionPageRequest.class))).thenReturn(
+                new AuditionPage<>(List.of(POST_2), 2, 1, 3));
+            final ResponseEntity<List<?>> response = auditionController.getPosts(null, null, 2, 1, null);
+            assertThat(response.getBody()).containsExactly(POST_2);
+            assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("3");
+            assertThat(response.getHeaders().getFirst(HttpHeaders.LINK))
+                .contains("page=1&size=1>; rel=\"first\"")
+                .contains("page=1&size=1>; rel=\"prev\"")
+                .contains("page=3&size=1>; rel=\"next\"")
+                .contains("page=3&size=1>; rel=\"last\"");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void testGetCommentsUnpagedHasNoLinkHeader() {
+        when(auditionService.getComments(eq(new ConcurrentHashMap<>()), any(AuditionPageRequest.class))).thenReturn(
+            unpaged(List.of(POST_COMMENT_1)));
+        final ResponseEntity<List<?>> response = auditionController.getComments(null, null, null, null);
+        assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("1");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.LINK)).isFalse();
+    }
+
+    @Test
+    void testGetAllPostsPassesUpstreamJsonThrough() {
+        passthroughProperties.setEnabled(true);
+        final byte[] json = "[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8);
+        when(auditionService.getPostsJson()).thenReturn(new RawJsonArray(json, 2));
+
+        final ResponseEntity<?> response = auditionController.getAllPosts();
+
+        assertThat(response.getBody()).isSameAs(json);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("2");
+    }
+
+    @Test
+    void testGetAllCommentsMapsWhenPassthroughIsDisabled() {
+        when(auditionService.getComments(eq(new ConcurrentHashMap<>()), any(AuditionPageRequest.class))).thenReturn(
+            unpaged(List.of(POST_COMMENT_1, POST_COMMENT_2)));
+
+        final ResponseEntity<?> response = auditionController.getAllComments();
+
+        assertThat(response.getBody()).isEqualTo(List.of(POST_COMMENT_1, POST_COMMENT_2));
+        assertThat(response.getHeaders().getFirst("X-Total-Count")).isEqualTo("2");
+    }
+
+    private static AuditionPage<Object> unpaged(final List<?> items) {
+        return new AuditionPage<>(List.copyOf(items), 1, items.size(), items.size());
+    }
 }